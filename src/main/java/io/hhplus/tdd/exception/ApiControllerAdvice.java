@@ -6,10 +6,16 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+
+import java.time.Duration;
+
 @Slf4j
 @RestControllerAdvice
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
 
+    // 잔고 부족, 잘못된 금액 등 4xx 거절 로그는 초당 10건까지만 남긴다.
+    private final RejectionLogLimiter rejectionLogLimiter = new RejectionLogLimiter(10, Duration.ofSeconds(1));
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
@@ -19,10 +25,21 @@ class ApiControllerAdvice extends ResponseEntityExceptionHandler {
     public ResponseEntity<ErrorResponse> handlePointException(PointException e) {
 
         //에러로그 추가
-        log.error("에러 발생: 상태 코드={}, 메시지={}, 발생 원인={}",
-                e.getStatus().value(),
-                e.getMessage(),
-                e.getCause() != null ? e.getCause().getMessage() : "없음");
+        if (e.getStatus().is5xxServerError()) {
+            log.error("에러 발생: 상태 코드={}, 메시지={}, 발생 원인={}",
+                    e.getStatus().value(),
+                    e.getMessage(),
+                    e.getCause() != null ? e.getCause().getMessage() : "없음");
+        } else if (log.isWarnEnabled()) {
+            //정상 트래픽에서도 빈번한 거절은 빈도 제한 후 WARN 으로 기록
+            long suppressed = rejectionLogLimiter.tryAcquire();
+            if (suppressed >= 0) {
+                log.warn("요청 거절: 상태 코드={}, 메시지={}, 생략된 거절 로그 수={}",
+                        e.getStatus().value(),
+                        e.getMessage(),
+                        suppressed);
+            }
+        }
 
         return ResponseEntity
                 .status(e.getStatus()) // 상태 코드 가져오기
@@ -3,14 +3,19 @@ package io.hhplus.tdd.exception;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
 
+/**
+ * 포인트 요청 거절 예외
+ * - 잔고 부족, 잘못된 금액 등 정상 트래픽에서도 빈번하게 발생하므로 스택 트레이스를 만들지 않는다.
+ * - 스택 트레이스와 suppressed 목록이 없어 불변이므로, 메시지가 고정된 예외는 미리 만들어 재사용할 수 있다.
+ */
 @Getter
 public class PointException extends RuntimeException {
 
     private final HttpStatus status;
 
     public PointException(HttpStatus status, String message) {
-        super(message);
+        super(message, null, false, false);
         this.status = status;
     }
 
-}
\ No newline at end of file
+}
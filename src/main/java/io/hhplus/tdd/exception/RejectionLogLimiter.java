@@ -0,0 +1,38 @@
+package io.hhplus.tdd.exception;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 거절 로그 빈도 제한 (고정 윈도우)
+ * - 윈도우마다 permitsPerWindow 건까지만 로그를 허용하고 나머지는 건수만 센다.
+ */
+class RejectionLogLimiter {
+
+    private final int permitsPerWindow;
+    private final long windowNanos;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger used = new AtomicInteger();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    RejectionLogLimiter(int permitsPerWindow, Duration window) {
+        this.permitsPerWindow = permitsPerWindow;
+        this.windowNanos = window.toNanos();
+    }
+
+    //로그를 남겨도 되면 직전까지 생략된 건수를, 생략해야 하면 -1 을 반환
+    long tryAcquire() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+            used.set(0);
+        }
+
+        if (used.incrementAndGet() > permitsPerWindow) {
+            suppressed.incrementAndGet();
+            return -1;
+        }
+        return suppressed.getAndSet(0);
+    }
+}
@@ -0,0 +1,74 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.dto.ReconciliationReport;
+import io.hhplus.tdd.point.service.ExportFormat;
+import io.hhplus.tdd.point.service.PointExportService;
+import io.hhplus.tdd.point.service.PointReconciliationService;
+import io.hhplus.tdd.timing.SlowRequestLog;
+import io.hhplus.tdd.timing.TimingRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/point")
+@RequiredArgsConstructor
+public class PointAdminController {
+
+    // 이번 내보내기의 끝 커서, 다음 증분 내보내기의 시작 커서로 사용
+    static final String EXPORT_END_CURSOR_HEADER = "X-Export-End-Cursor";
+
+    private final PointExportService pointExportService;
+    private final PointReconciliationService pointReconciliationService;
+    private final SlowRequestLog slowRequestLog;
+
+    /**
+     * 전체 포인트 내역을 원장 순서대로 내보낸다.
+     * 중단된 경우 cursor + 수신한 레코드 수로 다시 요청하면 이어서 받을 수 있다.
+     */
+    @GetMapping("export/histories")
+    public ResponseEntity<StreamingResponseBody> exportHistories(
+            @RequestParam(defaultValue = "0") int cursor,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        int endCursor = pointExportService.historyEndCursor(cursor);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(EXPORT_END_CURSOR_HEADER, String.valueOf(endCursor))
+                .body(out -> pointExportService.exportHistories(cursor, endCursor, format, out));
+    }
+
+    /**
+     * 전체 유저 잔액을 유저 ID 순으로 내보낸다.
+     * 중단된 경우 마지막으로 수신한 유저 ID 를 cursor 로 다시 요청하면 이어서 받을 수 있다.
+     */
+    @GetMapping("export/balances")
+    public ResponseEntity<StreamingResponseBody> exportBalances(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .body(out -> pointExportService.exportBalances(cursor, format, out));
+    }
+
+    /**
+     * 유저별 잔액과 원장 합계를 대사한다.
+     * 기본은 직전 실행 이후 원장만 집계하는 증분 대사, full=true 면 원장 전체를 다시 집계한다.
+     */
+    @PostMapping("reconciliation")
+    public ReconciliationReport reconcile(@RequestParam(defaultValue = "false") boolean full) {
+        return full ? pointReconciliationService.reconcileAll() : pointReconciliationService.reconcile();
+    }
+
+    /**
+     * 샘플링된 최근 요청 중 느린 요청을 단계별 소요 시간과 함께 느린 순으로 조회한다.
+     */
+    @GetMapping("timings/slowest")
+    public List<TimingRecord> slowestRequests(@RequestParam(defaultValue = "20") int limit) {
+        return slowRequestLog.slowest(limit);
+    }
+}
@@ -1,11 +1,16 @@
 package io.hhplus.tdd.point.controller;
 
+import io.hhplus.tdd.exception.PointException;
 import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.TransferRequest;
 import io.hhplus.tdd.point.service.PointService;
 import io.hhplus.tdd.point.UserPoint;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -16,14 +21,21 @@ import java.util.List;
 public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
+    private static final PointException MISSING_TRANSFER_FIELD =
+            new PointException(HttpStatus.BAD_REQUEST, "받는 유저 ID 와 이동 금액은 필수입니다.");
     private final PointService pointService;
 
     /**
      * TODO - 특정 유저의 포인트를 조회하는 기능을 작성해주세요.
      */
     @GetMapping("{id}")
-    public UserPoint point(@PathVariable long id) {
-        return pointService.getUserPointByUserId(id);
+    public ResponseEntity<UserPoint> point(@PathVariable long id, @RequestHeader HttpHeaders headers) {
+        String eTag = userETag(id);
+        // 버전이 같으면 포인트를 조회하지 않고 304 응답
+        if (isNotModified(headers, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(pointService.getUserPointByUserId(id));
     }
 
 
@@ -31,8 +43,14 @@ public class PointController {
      * TODO - 특정 유저의 포인트 충전/이용 내역을 조회하는 기능을 작성해주세요.
      */
     @GetMapping("{id}/histories")
-    public List<PointHistory> history(@PathVariable long id) {
-        return pointService.getPointHistoryByUserId(id);
+    public ResponseEntity<List<PointHistory>> history(@PathVariable long id, @RequestHeader HttpHeaders headers) {
+        String eTag = userETag(id);
+        // 버전이 같으면 내역을 조회하지 않고 304 응답
+        if (isNotModified(headers, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        // 내역이 없으면 예외 응답이 되므로 ETag 는 조회에 성공한 경우에만 붙인다.
+        return ResponseEntity.ok().eTag(eTag).body(pointService.getPointHistoryByUserId(id));
     }
 
     /**
@@ -50,4 +68,41 @@ public class PointController {
     public UserPoint use(@PathVariable long id, @RequestBody long amount) {
         return pointService.usePoint(id, amount);
     }
+
+    /**
+     * 특정 유저의 포인트를 다른 유저에게 이동한다.
+     * 응답에는 보내는 유저의 포인트만 담는다. (받는 유저의 잔액은 노출하지 않음)
+     */
+    @PatchMapping("{id}/transfer")
+    public UserPoint transfer(@PathVariable long id, @RequestBody TransferRequest request) {
+        if (request.toUserId() == null || request.amount() == null) {
+            throw MISSING_TRANSFER_FIELD;
+        }
+        return pointService.transferPoint(id, request.toUserId(), request.amount());
+    }
+
+    // 프로세스 구분값과 유저 데이터 버전 기반 ETag (updateMillis 등 본문이 완전히 같지는 않으므로 weak ETag 사용)
+    // 조회 결과보다 먼저 만들어야 조회 도중 변경이 일어나도 오래된 데이터에 새 버전이 붙지 않는다.
+    private String userETag(long id) {
+        return "W/\"" + pointService.getVersionEpoch() + "-" + pointService.getUserVersion(id) + "\"";
+    }
+
+    // If-None-Match 의 ETag 중 하나라도 약한 비교로 같으면 true
+    // 원본 헤더를 직접 나눠 비교하므로 형식이 잘못된 값(따옴표 없는 값 등)은 일치하지 않는 것으로 보고 일반 조회한다.
+    // ("*" 는 데이터가 있는지 조회해야 알 수 있으므로 일치로 보지 않는다.)
+    private static boolean isNotModified(HttpHeaders headers, String eTag) {
+        String opaqueTag = opaqueTag(eTag);
+        for (String headerValue : headers.getOrEmpty(HttpHeaders.IF_NONE_MATCH)) {
+            for (String candidate : headerValue.split(",")) {
+                if (opaqueTag(candidate.trim()).equals(opaqueTag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String eTag) {
+        return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+    }
 }
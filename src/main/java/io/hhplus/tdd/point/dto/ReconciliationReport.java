@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.dto;
+
+import java.util.List;
+
+/**
+ * 원장 대사 결과
+ * - fromPosition ~ toPosition : 이번 실행에서 집계한 원장 구간
+ * - checkedUsers : 잔액을 비교한 유저 수
+ */
+public record ReconciliationReport(
+        int fromPosition,
+        int toPosition,
+        int checkedUsers,
+        List<Mismatch> mismatches
+) {
+
+    //원장 합계(expectedPoint)와 실제 잔액(actualPoint)이 다른 유저
+    public record Mismatch(
+            long userId,
+            long expectedPoint,
+            long actualPoint
+    ) {
+    }
+}
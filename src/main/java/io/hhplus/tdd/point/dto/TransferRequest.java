@@ -0,0 +1,8 @@
+package io.hhplus.tdd.point.dto;
+
+// 누락된 필드를 0 으로 받지 않도록 래퍼 타입 사용 (null 이면 컨트롤러에서 거절)
+public record TransferRequest(
+        Long toUserId,
+        Long amount
+) {
+}
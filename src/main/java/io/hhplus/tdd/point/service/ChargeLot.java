@@ -0,0 +1,37 @@
+package io.hhplus.tdd.point.service;
+
+import lombok.Getter;
+
+/**
+ * 만료 대상 충전분
+ * - remaining : 아직 사용/만료되지 않은 포인트, 해당 유저의 락 안에서만 변경한다.
+ *   (만료 대상 선별 시 락 없이 읽을 수 있도록 volatile)
+ * - expireAtMillis : 만료 시각, 다른 유저에게 이동해도 바뀌지 않는다.
+ * - wheelEntry : 타이밍 휠에 등록된 항목, 만료 전에 모두 사용되면 휠에서 제거하는 데 사용한다.
+ */
+@Getter
+class ChargeLot {
+
+    private final long userId;
+    private final long expireAtMillis;
+    private volatile long remaining;
+    private TimingWheel.Entry<ChargeLot> wheelEntry;
+
+    ChargeLot(long userId, long amount, long expireAtMillis) {
+        this.userId = userId;
+        this.expireAtMillis = expireAtMillis;
+        this.remaining = amount;
+    }
+
+    //휠 등록 항목 보관 (해당 유저의 락 안에서 호출)
+    void attach(TimingWheel.Entry<ChargeLot> wheelEntry) {
+        this.wheelEntry = wheelEntry;
+    }
+
+    //최대 amount 만큼 차감하고 실제 차감한 포인트를 반환
+    long take(long amount) {
+        long taken = Math.min(remaining, amount);
+        remaining -= taken;
+        return taken;
+    }
+}
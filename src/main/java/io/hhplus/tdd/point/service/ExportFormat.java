@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 원장 내보내기 형식
+ * - NDJSON : 한 줄에 JSON 객체 하나
+ * - BINARY : 고정 길이 빅엔디언 레코드
+ *   - 포인트 내역 (33 byte) : id(8) userId(8) amount(8) type ordinal(1) updateMillis(8)
+ *   - 잔액 (24 byte) : id(8) point(8) updateMillis(8)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    NDJSON("application/x-ndjson"),
+    BINARY("application/octet-stream");
+
+    private final String contentType;
+}
@@ -0,0 +1,117 @@
+package io.hhplus.tdd.point.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 충전 포인트 만료 처리
+ * - point.expiry.ttl 이 설정되면 1초마다 타이밍 휠을 전진시키고, 만료된 충전분을 유저별로 모아 한 번에 차감한다.
+ * - 차감은 PointService 를 통해 유저 락 안에서 EXPIRE 내역으로 기록된다.
+ * - 유저별 차감은 point.expiry.workers 개의 스레드에서 병렬로 처리한다. (대기열이 차면 스케줄러 스레드가 직접 처리)
+ */
+@Slf4j
+@Service
+public class PointExpiryService {
+
+    // 워커 스레드당 대기열 크기
+    private static final int QUEUE_PER_WORKER = 64;
+
+    private final PointService pointService;
+    private final Duration ttl;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "point-expiry");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ThreadPoolExecutor workers;
+
+    public PointExpiryService(PointService pointService,
+                              @Value("${point.expiry.ttl:0s}") Duration ttl,
+                              @Value("${point.expiry.workers:4}") int workerCount) {
+        this.pointService = pointService;
+        this.ttl = ttl;
+
+        AtomicInteger workerNumber = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workerCount * QUEUE_PER_WORKER),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "point-expiry-worker-" + workerNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PostConstruct
+    void start() {
+        if (ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+
+        pointService.getPointExpiryTracker().enable(ttl);
+        scheduler.scheduleWithFixedDelay(this::expireScheduled, 1, 1, TimeUnit.SECONDS);
+    }
+
+    // 예외가 스케줄 밖으로 나가면 이후 실행이 조용히 취소되므로 로그만 남기고 다음 틱에 계속한다.
+    void expireScheduled() {
+        try {
+            expire();
+        } catch (RuntimeException e) {
+            log.error("포인트 만료 스케줄 실행 실패", e);
+        }
+    }
+
+    //현재 시각까지 만료된 충전분을 차감하고 만료 처리한 유저 수를 반환
+    public int expire() {
+        return expireUntil(System.currentTimeMillis());
+    }
+
+    int expireUntil(long nowMillis) {
+        Map<Long, List<ChargeLot>> expiredByUser = pointService.getPointExpiryTracker().advanceTo(nowMillis);
+
+        // 유저마다 락이 다르므로 병렬로 차감
+        List<Future<?>> futures = new ArrayList<>(expiredByUser.size());
+        expiredByUser.forEach((userId, lots) -> futures.add(workers.submit(() -> {
+            try {
+                pointService.expireChargeLots(userId, lots);
+            } catch (RuntimeException e) {
+                log.error("포인트 만료 처리 실패: 유저 ID={}, 충전분 수={}", userId, lots.size(), e);
+            }
+        })));
+
+        // 다음 틱과 겹치지 않도록 이번 틱의 차감이 모두 끝날 때까지 대기
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                log.error("포인트 만료 처리 실패", e.getCause());
+            }
+        }
+        return expiredByUser.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        workers.shutdownNow();
+    }
+}
@@ -0,0 +1,119 @@
+package io.hhplus.tdd.point.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 충전 포인트 만료 관리
+ * - 충전분마다 만료 시각을 타이밍 휠에 등록하고, 유저별로 만료가 빠른 순서대로 보관한다.
+ * - 사용할 때는 만료가 빠른 충전분부터 차감하므로 만료 시에는 남은 포인트만 차감된다.
+ * - 이동한 포인트는 차감된 충전분의 만료 시각을 그대로 가지고 받는 유저의 충전분이 된다.
+ * - 모두 사용된 충전분은 바로 휠에서 제거하므로 휠에는 남은 포인트가 있는 충전분만 남는다.
+ * - TTL 이 설정되지 않으면(0) 아무것도 기록하지 않는다.
+ */
+public class PointExpiryTracker {
+
+    // 타이밍 휠 틱 간격
+    private static final long TICK_MILLIS = 1_000L;
+
+    private final TimingWheel<ChargeLot> wheel = new TimingWheel<>(TICK_MILLIS, System.currentTimeMillis());
+    private static final Comparator<ChargeLot> EXPIRE_ORDER = Comparator.comparingLong(ChargeLot::getExpireAtMillis);
+
+    // 유저별 충전분 (만료가 빠른 순), 해당 유저의 락 안에서만 변경
+    private final ConcurrentHashMap<Long, PriorityQueue<ChargeLot>> lotsByUser = new ConcurrentHashMap<>();
+    private volatile long ttlMillis;
+
+    //충전 포인트 만료 기간 설정 (0 이면 만료하지 않음)
+    public void enable(Duration ttl) {
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    public boolean isEnabled() {
+        return ttlMillis > 0;
+    }
+
+    //충전분 기록 (유저 락 안에서 호출)
+    void recordCharge(long userId, long amount, long chargedMillis) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        addLot(new ChargeLot(userId, amount, chargedMillis + ttlMillis));
+    }
+
+    //만료가 빠른 충전분부터 사용 금액만큼 차감하고, 차감한 부분을 원래 만료 시각과 함께 반환 (유저 락 안에서 호출)
+    List<ChargeLot> consume(long userId, long amount) {
+        PriorityQueue<ChargeLot> lots = lotsByUser.get(userId);
+        if (lots == null) {
+            return List.of();
+        }
+
+        List<ChargeLot> portions = new ArrayList<>();
+        long rest = amount;
+        while (rest > 0 && !lots.isEmpty()) {
+            ChargeLot soonest = lots.peek();
+            long taken = soonest.take(rest);
+            rest -= taken;
+            portions.add(new ChargeLot(userId, taken, soonest.getExpireAtMillis()));
+            if (soonest.getRemaining() == 0) {
+                lots.poll();
+                wheel.remove(soonest.getWheelEntry());
+            }
+        }
+        if (lots.isEmpty()) {
+            lotsByUser.remove(userId, lots);
+        }
+        return portions;
+    }
+
+    //다른 유저에게서 차감된 충전분을 만료 시각을 유지한 채 받는 유저의 충전분으로 기록 (받는 유저 락 안에서 호출)
+    void receive(long userId, List<ChargeLot> portions) {
+        for (ChargeLot portion : portions) {
+            addLot(new ChargeLot(userId, portion.getRemaining(), portion.getExpireAtMillis()));
+        }
+    }
+
+    private void addLot(ChargeLot lot) {
+        lotsByUser.computeIfAbsent(lot.getUserId(), id -> new PriorityQueue<>(EXPIRE_ORDER)).add(lot);
+        lot.attach(wheel.add(lot, lot.getExpireAtMillis()));
+    }
+
+    //휠에 등록된 충전분 수 (만료 전이고 남은 포인트가 있는 충전분)
+    int scheduledLots() {
+        return wheel.size();
+    }
+
+    //만료된 충전분의 남은 포인트를 최대 limit 만큼 차감하고 차감한 포인트를 반환 (유저 락 안에서 호출)
+    long expire(ChargeLot lot, long limit) {
+        long expired = lot.take(limit);
+        // 잔액이 부족해 다 차감하지 못한 나머지도 더 이상 만료 대상이 아니다.
+        lot.take(Long.MAX_VALUE);
+
+        PriorityQueue<ChargeLot> lots = lotsByUser.get(lot.getUserId());
+        if (lots != null) {
+            lots.remove(lot);
+            if (lots.isEmpty()) {
+                lotsByUser.remove(lot.getUserId(), lots);
+            }
+        }
+        return expired;
+    }
+
+    //nowMillis 까지 만료된 충전분을 유저별로 모아 반환
+    Map<Long, List<ChargeLot>> advanceTo(long nowMillis) {
+        Map<Long, List<ChargeLot>> expiredByUser = new HashMap<>();
+        for (ChargeLot lot : wheel.advanceTo(nowMillis)) {
+            // 이미 모두 사용된 충전분은 제외
+            if (lot.getRemaining() > 0) {
+                expiredByUser.computeIfAbsent(lot.getUserId(), id -> new ArrayList<>()).add(lot);
+            }
+        }
+        return expiredByUser;
+    }
+}
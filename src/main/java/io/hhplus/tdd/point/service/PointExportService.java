@@ -0,0 +1,158 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.exception.PointException;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 포인트 내역/잔액 전체 내보내기
+ * - 컬렉션을 만들지 않고 원장을 순회하며 고정 크기 버퍼에 인코딩한 뒤 청크 단위로 출력한다.
+ */
+@RequiredArgsConstructor
+@Service
+public class PointExportService {
+
+    // 출력 청크 크기
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // 레코드 하나의 최대 크기 (NDJSON 기준 여유 있게 설정)
+    private static final int MAX_RECORD_SIZE = 256;
+
+    private static final byte[] ID = ascii("{\"id\":");
+    private static final byte[] USER_ID = ascii(",\"userId\":");
+    private static final byte[] AMOUNT = ascii(",\"amount\":");
+    private static final byte[] TYPE = ascii(",\"type\":\"");
+    private static final byte[] UPDATE_MILLIS_AFTER_TYPE = ascii("\",\"updateMillis\":");
+    private static final byte[] POINT = ascii(",\"point\":");
+    private static final byte[] UPDATE_MILLIS = ascii(",\"updateMillis\":");
+    private static final byte[] LINE_END = ascii("}\n");
+    private static final byte[] MIN_LONG = ascii(String.valueOf(Long.MIN_VALUE));
+    private static final byte[][] TYPE_NAMES = typeNames();
+
+    private final PointService pointService;
+
+    //커서를 검증하고 내보낼 포인트 내역의 끝 위치를 반환 (요청 시점 스냅샷)
+    //응답 스트리밍이 시작되기 전에 호출해야 예외가 에러 응답으로 전달된다.
+    public int historyEndCursor(int cursor) {
+        int endCursor = pointService.getPointLedger().size();
+        if (cursor < 0 || cursor > endCursor) {
+            throw new PointException(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+        return endCursor;
+    }
+
+    //원장의 [cursor, endCursor) 구간 포인트 내역을 출력하고 출력한 건수를 반환
+    public long exportHistories(int cursor, int endCursor, ExportFormat format, OutputStream out) throws IOException {
+        PointLedger ledger = pointService.getPointLedger();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        for (int position = cursor; position < endCursor; position++) {
+            if (buffer.remaining() < MAX_RECORD_SIZE) {
+                flush(buffer, out);
+            }
+            PointHistory history = ledger.get(position);
+            if (format == ExportFormat.BINARY) {
+                buffer.putLong(history.id())
+                        .putLong(history.userId())
+                        .putLong(history.amount())
+                        .put((byte) history.type().ordinal())
+                        .putLong(history.updateMillis());
+            } else {
+                buffer.put(ID);
+                putAscii(buffer, history.id());
+                buffer.put(USER_ID);
+                putAscii(buffer, history.userId());
+                buffer.put(AMOUNT);
+                putAscii(buffer, history.amount());
+                buffer.put(TYPE).put(TYPE_NAMES[history.type().ordinal()]).put(UPDATE_MILLIS_AFTER_TYPE);
+                putAscii(buffer, history.updateMillis());
+                buffer.put(LINE_END);
+            }
+        }
+        flush(buffer, out);
+        return endCursor - cursor;
+    }
+
+    //cursor 보다 큰 유저 ID 의 잔액을 ID 순으로 출력하고 출력한 건수를 반환 (cursor 가 null 이면 처음부터)
+    public long exportBalances(Long cursor, ExportFormat format, OutputStream out) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long count = 0;
+        for (UserPoint userPoint : pointService.getPointLedger().balancesAfter(cursor).values()) {
+            if (buffer.remaining() < MAX_RECORD_SIZE) {
+                flush(buffer, out);
+            }
+            putBalance(buffer, userPoint, format);
+            count++;
+        }
+        flush(buffer, out);
+        return count;
+    }
+
+    private void putBalance(ByteBuffer buffer, UserPoint userPoint, ExportFormat format) {
+        if (format == ExportFormat.BINARY) {
+            buffer.putLong(userPoint.id())
+                    .putLong(userPoint.point())
+                    .putLong(userPoint.updateMillis());
+        } else {
+            buffer.put(ID);
+            putAscii(buffer, userPoint.id());
+            buffer.put(POINT);
+            putAscii(buffer, userPoint.point());
+            buffer.put(UPDATE_MILLIS);
+            putAscii(buffer, userPoint.updateMillis());
+            buffer.put(LINE_END);
+        }
+    }
+
+    private void flush(ByteBuffer buffer, OutputStream out) throws IOException {
+        if (buffer.position() > 0) {
+            out.write(buffer.array(), 0, buffer.position());
+            buffer.clear();
+        }
+        out.flush();
+    }
+
+    // 문자열 생성 없이 long 값을 10진수 ASCII 로 기록
+    private static void putAscii(ByteBuffer buffer, long value) {
+        if (value == Long.MIN_VALUE) {
+            buffer.put(MIN_LONG);
+            return;
+        }
+        if (value < 0) {
+            buffer.put((byte) '-');
+            value = -value;
+        }
+
+        int digits = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+
+        int end = buffer.position() + digits;
+        for (int index = end - 1; index >= buffer.position(); index--) {
+            buffer.put(index, (byte) ('0' + value % 10));
+            value /= 10;
+        }
+        buffer.position(end);
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[][] typeNames() {
+        TransactionType[] types = TransactionType.values();
+        byte[][] names = new byte[types.length][];
+        for (TransactionType type : types) {
+            names[type.ordinal()] = ascii(type.name());
+        }
+        return names;
+    }
+}
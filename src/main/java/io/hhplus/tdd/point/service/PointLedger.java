@@ -0,0 +1,73 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.Arrays;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * PointService 가 기록한 포인트 내역과 최신 잔액을 순서대로 보관하는 append-only 원장
+ * - Table 클래스에는 전체 조회 API 가 없으므로, 쓰기 시점에 결과를 함께 기록해 둔다.
+ * - 쓰기는 한 번에 하나씩, 읽기는 락 없이 size 스냅샷까지만 읽는다.
+ */
+public class PointLedger {
+
+    // 청크 하나에 4096건씩 저장 (배열 전체 복사 없이 증가)
+    private static final int CHUNK_SHIFT = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private volatile PointHistory[][] chunks = new PointHistory[16][];
+    // 기록된 내역 수, volatile 쓰기로 앞서 저장한 내역을 읽기 스레드에 공개
+    private volatile int size;
+
+    // 유저 ID 순으로 정렬된 최신 잔액 (커서 기반 재개를 위해 정렬 맵 사용)
+    private final ConcurrentSkipListMap<Long, UserPoint> balances = new ConcurrentSkipListMap<>();
+
+    //포인트 내역 추가 (null 이면 내보내기/대사 결과가 틀어지므로 즉시 실패)
+    public synchronized void append(PointHistory pointHistory) {
+        Objects.requireNonNull(pointHistory, "원장에 기록할 포인트 내역이 없습니다.");
+
+        int position = size;
+        int chunkIndex = position >>> CHUNK_SHIFT;
+
+        PointHistory[][] current = chunks;
+        if (chunkIndex == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+        }
+        if (current[chunkIndex] == null) {
+            current[chunkIndex] = new PointHistory[CHUNK_SIZE];
+        }
+        current[chunkIndex][position & CHUNK_MASK] = pointHistory;
+
+        chunks = current;
+        size = position + 1;
+    }
+
+    //최신 잔액 갱신
+    public void updateBalance(UserPoint userPoint) {
+        Objects.requireNonNull(userPoint, "원장에 기록할 잔액이 없습니다.");
+        balances.put(userPoint.id(), userPoint);
+    }
+
+    //현재까지 기록된 내역 수 (다음 내역의 위치)
+    public int size() {
+        return size;
+    }
+
+    //특정 위치의 내역 조회, position 은 size() 로 얻은 스냅샷보다 작아야 한다.
+    public PointHistory get(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("원장 위치가 범위를 벗어났습니다: " + position);
+        }
+        return chunks[position >>> CHUNK_SHIFT][position & CHUNK_MASK];
+    }
+
+    //cursor 보다 큰 유저 ID 의 잔액을 ID 순으로 조회 (cursor 가 null 이면 전체)
+    public NavigableMap<Long, UserPoint> balancesAfter(Long cursor) {
+        return cursor == null ? balances : balances.tailMap(cursor, false);
+    }
+}
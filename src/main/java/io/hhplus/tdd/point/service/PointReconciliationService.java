@@ -0,0 +1,207 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.exception.PointException;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.dto.ReconciliationReport;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 원장 대사(reconciliation)
+ * - 유저별 잔액(UserPoint.point)이 원장의 CHARGE 합계 - USE 합계 - EXPIRE 합계와 같은지 검증한다.
+ * - 원장을 한 번만 순회하며 fork/join 으로 구간을 나눠 유저별 합계를 병렬 집계한다.
+ * - 잔액 조회는 블로킹 호출이므로 fork/join 풀이 아닌 크기가 고정된 별도 풀에서 병렬로 실행한다.
+ * - 마지막으로 집계한 원장 위치(체크포인트)와 유저별 합계를 보관해 다음 실행은 이후 구간만 집계한다.
+ * - 원장은 락 없이 읽고, 불일치로 보이는 유저만 해당 유저 락 안에서 다시 확인한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class PointReconciliationService {
+
+    // 이 건수 이하의 원장 구간은 더 나누지 않고 순차 집계
+    private static final int SEQUENTIAL_THRESHOLD = 8_192;
+    // 동시에 잔액을 조회하는 최대 스레드 수
+    private static final int BALANCE_READERS = 8;
+    private static final PointException BALANCE_READ_FAILED =
+            new PointException(HttpStatus.INTERNAL_SERVER_ERROR, "원장 대사 중 잔액 조회에 실패했습니다.");
+
+    private final PointService pointService;
+    private final UserPointTable userPointTable;
+    // CPU 작업인 원장 집계 전용
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    // 블로킹 잔액 조회 전용
+    private final ExecutorService balanceReaders = Executors.newFixedThreadPool(BALANCE_READERS, runnable -> {
+        Thread thread = new Thread(runnable, "point-reconciliation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 체크포인트: checkpointPosition 이전 원장의 유저별 합계
+    private Map<Long, Long> checkpointSums = new HashMap<>();
+    private int checkpointPosition = 0;
+    // 직전 실행에서 불일치였던 유저 (다음 증분 실행에서 다시 확인)
+    private Set<Long> pendingMismatches = new HashSet<>();
+
+    //체크포인트 이후 원장만 집계해 변경된 유저와 직전 불일치 유저를 검증
+    public synchronized ReconciliationReport reconcile() {
+        return run(false);
+    }
+
+    //체크포인트를 버리고 원장 전체를 집계해 모든 유저를 검증
+    public synchronized ReconciliationReport reconcileAll() {
+        checkpointSums = new HashMap<>();
+        checkpointPosition = 0;
+        pendingMismatches = new HashSet<>();
+        return run(true);
+    }
+
+    private ReconciliationReport run(boolean checkAllUsers) {
+        PointLedger ledger = pointService.getPointLedger();
+        int fromPosition = checkpointPosition;
+        int toPosition = ledger.size();
+
+        // 1. 체크포인트 이후 구간을 병렬 집계해 체크포인트 합계에 반영
+        Map<Long, Long> delta = pool.invoke(new AggregateTask(ledger, fromPosition, toPosition));
+        Map<Long, Long> sums = new HashMap<>(checkpointSums);
+        delta.forEach((userId, amount) -> sums.merge(userId, amount, Long::sum));
+
+        // 2. 검증 대상 유저의 잔액을 병렬로 비교
+        Set<Long> targets = new HashSet<>(checkAllUsers ? sums.keySet() : delta.keySet());
+        targets.addAll(pendingMismatches);
+        List<Callable<ReconciliationReport.Mismatch>> verifications = new ArrayList<>(targets.size());
+        for (long userId : targets) {
+            long expectedPoint = sums.getOrDefault(userId, 0L);
+            verifications.add(() -> verify(ledger, userId, expectedPoint, toPosition));
+        }
+        List<ReconciliationReport.Mismatch> mismatches = collectMismatches(verifications);
+
+        // 3. 체크포인트 갱신
+        checkpointSums = sums;
+        checkpointPosition = toPosition;
+        pendingMismatches = new HashSet<>();
+        mismatches.forEach(mismatch -> pendingMismatches.add(mismatch.userId()));
+
+        if (!mismatches.isEmpty()) {
+            log.warn("원장 대사 불일치: 원장 구간={}~{}, 불일치 유저 수={}, 불일치 내역={}",
+                    fromPosition, toPosition, mismatches.size(), mismatches);
+        }
+        return new ReconciliationReport(fromPosition, toPosition, targets.size(), mismatches);
+    }
+
+    // 잔액 조회 풀에서 검증을 실행하고 불일치만 모은다.
+    private List<ReconciliationReport.Mismatch> collectMismatches(List<Callable<ReconciliationReport.Mismatch>> verifications) {
+        List<ReconciliationReport.Mismatch> mismatches = new ArrayList<>();
+        try {
+            for (Future<ReconciliationReport.Mismatch> future : balanceReaders.invokeAll(verifications)) {
+                ReconciliationReport.Mismatch mismatch = future.get();
+                if (mismatch != null) {
+                    mismatches.add(mismatch);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw BALANCE_READ_FAILED;
+        } catch (ExecutionException e) {
+            log.error("원장 대사 잔액 조회 실패", e.getCause());
+            throw BALANCE_READ_FAILED;
+        }
+        return mismatches;
+    }
+
+    private ReconciliationReport.Mismatch verify(PointLedger ledger, long userId, long expectedPoint, int toPosition) {
+        if (userPointTable.selectById(userId).point() == expectedPoint) {
+            return null;
+        }
+
+        // 집계 이후 진행된 충전/사용과 겹쳤을 수 있으므로 유저 락 안에서 이후 원장까지 반영해 다시 확인
+        return pointService.callWithUserLock(userId, () -> {
+            long recheckedExpected = expectedPoint + sumOf(ledger, userId, toPosition, ledger.size());
+            long actualPoint = userPointTable.selectById(userId).point();
+            return actualPoint == recheckedExpected
+                    ? null
+                    : new ReconciliationReport.Mismatch(userId, recheckedExpected, actualPoint);
+        });
+    }
+
+    private static long sumOf(PointLedger ledger, long userId, int fromPosition, int toPosition) {
+        long sum = 0;
+        for (int position = fromPosition; position < toPosition; position++) {
+            PointHistory history = ledger.get(position);
+            if (history.userId() == userId) {
+                sum += signedAmount(history);
+            }
+        }
+        return sum;
+    }
+
+    // 잔액에 더해지는 방향으로 부호를 붙인 금액
+    private static long signedAmount(PointHistory history) {
+        return switch (history.type()) {
+            case CHARGE -> history.amount();
+            case USE, EXPIRE -> -history.amount();
+        };
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+        balanceReaders.shutdown();
+    }
+
+    // 원장 [from, to) 구간의 유저별 합계를 분할 정복으로 집계
+    private static class AggregateTask extends RecursiveTask<Map<Long, Long>> {
+
+        private final PointLedger ledger;
+        private final int from;
+        private final int to;
+
+        AggregateTask(PointLedger ledger, int from, int to) {
+            this.ledger = ledger;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<Long, Long> compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                Map<Long, Long> sums = new HashMap<>();
+                for (int position = from; position < to; position++) {
+                    PointHistory history = ledger.get(position);
+                    sums.merge(history.userId(), signedAmount(history), Long::sum);
+                }
+                return sums;
+            }
+
+            int middle = (from + to) >>> 1;
+            AggregateTask left = new AggregateTask(ledger, from, middle);
+            left.fork();
+            Map<Long, Long> right = new AggregateTask(ledger, middle, to).compute();
+            Map<Long, Long> leftSums = left.join();
+
+            // 작은 쪽을 큰 쪽에 합친다.
+            Map<Long, Long> larger = leftSums.size() >= right.size() ? leftSums : right;
+            Map<Long, Long> smaller = larger == leftSums ? right : leftSums;
+            smaller.forEach((userId, amount) -> larger.merge(userId, amount, Long::sum));
+            return larger;
+        }
+    }
+}
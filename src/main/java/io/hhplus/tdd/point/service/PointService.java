@@ -6,6 +6,8 @@ import io.hhplus.tdd.exception.PointException;
 import io.hhplus.tdd.point.PointHistory;
 import io.hhplus.tdd.point.TransactionType;
 import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.timing.RequestTiming;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -13,8 +15,11 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -25,18 +30,99 @@ public class PointService {
     private final UserPointTable userPointTable;
     //최대 포인트 예시
     private static final long MAX_BALANCE = 1_000_000L;
+    // 메시지가 고정된 거절 예외는 미리 만들어 재사용
+    private static final PointException INVALID_CHARGE_AMOUNT =
+            new PointException(HttpStatus.BAD_REQUEST, "충전 금액은 0보다 커야 합니다.");
+    private static final PointException INVALID_USE_AMOUNT =
+            new PointException(HttpStatus.BAD_REQUEST, "사용 금액은 0보다 커야 합니다.");
+    private static final PointException INSUFFICIENT_BALANCE =
+            new PointException(HttpStatus.BAD_REQUEST, "포인트가 부족합니다.");
+    private static final PointException EXCEED_MAX_BALANCE =
+            new PointException(HttpStatus.BAD_REQUEST, "최대 잔고는 " + MAX_BALANCE + "을 초과할 수 없습니다.");
+    private static final PointException INVALID_TRANSFER_AMOUNT =
+            new PointException(HttpStatus.BAD_REQUEST, "이동 금액은 0보다 커야 합니다.");
+    private static final PointException INVALID_TRANSFER_USER =
+            new PointException(HttpStatus.BAD_REQUEST, "유효하지 않은 유저 ID 입니다.");
+    private static final PointException SELF_TRANSFER =
+            new PointException(HttpStatus.BAD_REQUEST, "같은 유저에게는 포인트를 이동할 수 없습니다.");
+    private static final PointException HISTORY_NOT_FOUND =
+            new PointException(HttpStatus.NOT_FOUND, "포인트 내역이 존재하지 않습니다.");
     // 고객별로 락을 관리하기 위한 ConcurrentHashMap
     // 같은 고객 ID면 락을 걸기
     private final ConcurrentHashMap<Long, Lock> lockMap = new ConcurrentHashMap<>();
+    // 고객별 데이터 버전 (포인트/내역이 바뀔 때마다 증가, 조회 응답의 ETag 로 사용)
+    private final ConcurrentHashMap<Long, AtomicLong> versionMap = new ConcurrentHashMap<>();
+    // 프로세스마다 새로 만드는 버전 구분값 (재시작 후 0부터 다시 세는 버전이 이전 ETag 와 겹치지 않도록)
+    @Getter
+    private final String versionEpoch = Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36);
+    // 기록한 포인트 내역과 최신 잔액 원장 (전체 내보내기 등 일괄 조회용)
+    @Getter
+    private final PointLedger pointLedger = new PointLedger();
+    // 충전 포인트 만료 관리 (만료 기간이 설정된 경우에만 기록)
+    @Getter
+    private final PointExpiryTracker pointExpiryTracker = new PointExpiryTracker();
 
     // 특정 고객의 락을 가져오거나 새로 생성
     private Lock getLockForCustomer(long userId) {
         return lockMap.computeIfAbsent(userId, id -> new ReentrantLock());
     }
 
+    // 특정 고객의 데이터 버전 증가 (고객 락 안에서 변경이 끝난 뒤 호출)
+    private void increaseVersion(long userId) {
+        versionMap.computeIfAbsent(userId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    // 락 대기 시간을 측정하며 락 획득
+    private void acquire(Lock lock) {
+        long start = RequestTiming.start();
+        lock.lock();
+        RequestTiming.end(RequestTiming.Phase.LOCK, start);
+    }
+
+    // 단계별 소요 시간을 측정하며 Table 호출
+    private UserPoint selectUserPoint(long userId) {
+        long start = RequestTiming.start();
+        UserPoint userPoint = userPointTable.selectById(userId);
+        RequestTiming.end(RequestTiming.Phase.SELECT, start);
+        return userPoint;
+    }
+
+    private PointHistory insertHistory(long userId, long amount, TransactionType type, long updateMillis) {
+        long start = RequestTiming.start();
+        PointHistory pointHistory = pointHistoryTable.insert(userId, amount, type, updateMillis);
+        RequestTiming.end(RequestTiming.Phase.INSERT, start);
+        return pointHistory;
+    }
+
+    private UserPoint updateUserPoint(long userId, long point) {
+        long start = RequestTiming.start();
+        UserPoint userPoint = userPointTable.insertOrUpdate(userId, point);
+        RequestTiming.end(RequestTiming.Phase.UPDATE, start);
+        return userPoint;
+    }
+
+    // 특정 고객의 락을 잡은 상태에서 작업 실행 (진행 중인 충전/사용이 없는 시점의 상태 확인용)
+    <T> T callWithUserLock(long userId, Supplier<T> action) {
+        Lock lock = getLockForCustomer(userId);
+        lock.lock();
+
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    //특정 유저의 데이터 버전을 조회하는 기능 (변경된 적 없으면 0)
+    //조회 결과보다 먼저 읽어야, 조회 도중 변경이 일어나도 오래된 데이터에 새 버전이 붙지 않는다.
+    public long getUserVersion(long userId) {
+        AtomicLong version = versionMap.get(userId);
+        return version == null ? 0L : version.get();
+    }
+
     //특정 유저의 포인트를 조회하는 기능
     public UserPoint getUserPointByUserId(long userId) {
-        return userPointTable.selectById(userId);
+        return selectUserPoint(userId);
     }
 
     //특정 유저의 포인트 충전/이용 내역을 조회하는 기능
@@ -44,7 +130,7 @@ public class PointService {
         List<PointHistory> histories = pointHistoryTable.selectAllByUserId(userId);
 
         if (histories.isEmpty()) {
-            throw new PointException(HttpStatus.NOT_FOUND, "포인트 내역이 존재하지 않습니다.");
+            throw HISTORY_NOT_FOUND;
         }
 
         return histories;
@@ -53,27 +139,31 @@ public class PointService {
     //특정 유저의 포인트를 충전하는 기능
     public UserPoint chargeUserPoint(long userId, long amount) {
 
+        //충전 금액 0, 음수 예외처리 (락을 잡기 전에 검증)
+        if (amount <= 0) {
+            throw INVALID_CHARGE_AMOUNT;
+        }
+
         Lock lock = getLockForCustomer(userId); // 고객별 락 가져오기
-        lock.lock();
+        acquire(lock);
 
         try {
-            //충전 금액 0, 음수 예외처리
-            if (amount <= 0) {
-                throw new PointException(HttpStatus.BAD_REQUEST, "충전 금액은 0보다 커야 합니다.");
-            }
-
-            UserPoint userPoint = userPointTable.selectById(userId);
+            UserPoint userPoint = selectUserPoint(userId);
             long updatedPoint = userPoint.point() + amount;
 
             // 최대 잔고 초과 예외 처리
             if (updatedPoint > MAX_BALANCE) {
-                throw new PointException(HttpStatus.BAD_REQUEST, "최대 잔고는 " + MAX_BALANCE + "을 초과할 수 없습니다.");
+                throw EXCEED_MAX_BALANCE;
             }
 
             // 포인트 히스토리 추가
-            pointHistoryTable.insert(userId, amount, TransactionType.CHARGE, System.currentTimeMillis());
+            pointLedger.append(insertHistory(userId, amount, TransactionType.CHARGE, System.currentTimeMillis()));
 
-            return userPointTable.insertOrUpdate(userId, updatedPoint);
+            UserPoint updatedUserPoint = updateUserPoint(userId, updatedPoint);
+            pointLedger.updateBalance(updatedUserPoint);
+            pointExpiryTracker.recordCharge(userId, amount, System.currentTimeMillis());
+            increaseVersion(userId);
+            return updatedUserPoint;
         } finally {
             //락 해제
             lock.unlock();
@@ -84,29 +174,124 @@ public class PointService {
     //특정 유저의 포인트를 사용하는 기능을 작성
     public UserPoint usePoint(long userId, long amount) {
 
+        //사용금액 0,음수 예외처리 (락을 잡기 전에 검증)
+        if (amount <= 0) {
+            throw INVALID_USE_AMOUNT;
+        }
+
         Lock lock = getLockForCustomer(userId); // 고객별 락 가져오기
-        lock.lock();
+        acquire(lock);
 
         try {
-            //사용금액 0,음수 예외처리
-            if (amount <= 0) {
-                throw new PointException(HttpStatus.BAD_REQUEST, "사용 금액은 0보다 커야 합니다.");
-            }
-
-            UserPoint userPoint = userPointTable.selectById(userId);
+            UserPoint userPoint = selectUserPoint(userId);
 
             //포인트 잔고부족 예외처리
             if (userPoint.point() < amount) {
-                throw new PointException(HttpStatus.BAD_REQUEST,
-                        "포인트가 부족합니다. 현재 잔액: " + userPoint.point() + "원, 요청 금액: " + amount + "원");
-
+                throw INSUFFICIENT_BALANCE;
             }
 
             // 포인트 히스토리 추가
-            pointHistoryTable.insert(userId, amount, TransactionType.USE, System.currentTimeMillis());
+            pointLedger.append(insertHistory(userId, amount, TransactionType.USE, System.currentTimeMillis()));
 
             long updatedPoint = userPoint.point() - amount;
-            return userPointTable.insertOrUpdate(userId, updatedPoint);
+            UserPoint updatedUserPoint = updateUserPoint(userId, updatedPoint);
+            pointLedger.updateBalance(updatedUserPoint);
+            pointExpiryTracker.consume(userId, amount);
+            increaseVersion(userId);
+            return updatedUserPoint;
+        } finally {
+            //락 해제
+            lock.unlock();
+        }
+
+    }
+
+    //특정 유저의 포인트를 다른 유저에게 이동하는 기능 (보내는 유저의 갱신된 포인트만 반환)
+    public UserPoint transferPoint(long fromUserId, long toUserId, long amount) {
+
+        //이동 금액 0, 음수, 유효하지 않은 유저 및 본인 이동 예외처리 (락을 잡기 전에 검증)
+        if (amount <= 0) {
+            throw INVALID_TRANSFER_AMOUNT;
+        }
+        if (fromUserId <= 0 || toUserId <= 0) {
+            throw INVALID_TRANSFER_USER;
+        }
+        if (fromUserId == toUserId) {
+            throw SELF_TRANSFER;
+        }
+
+        // 데드락 방지: 두 유저의 락을 항상 ID 가 작은 유저부터 잡는다.
+        Lock firstLock = getLockForCustomer(Math.min(fromUserId, toUserId));
+        Lock secondLock = getLockForCustomer(Math.max(fromUserId, toUserId));
+        acquire(firstLock);
+
+        try {
+            acquire(secondLock);
+
+            try {
+                UserPoint sender = selectUserPoint(fromUserId);
+                UserPoint receiver = selectUserPoint(toUserId);
+
+                //포인트 잔고부족 예외처리
+                if (sender.point() < amount) {
+                    throw INSUFFICIENT_BALANCE;
+                }
+
+                // 받는 유저의 최대 잔고 초과 예외 처리
+                long updatedReceiverPoint = receiver.point() + amount;
+                if (updatedReceiverPoint > MAX_BALANCE) {
+                    throw EXCEED_MAX_BALANCE;
+                }
+
+                // 포인트 히스토리 추가 (보내는 유저는 사용, 받는 유저는 충전으로 기록)
+                long updateMillis = System.currentTimeMillis();
+                pointLedger.append(insertHistory(fromUserId, amount, TransactionType.USE, updateMillis));
+                pointLedger.append(insertHistory(toUserId, amount, TransactionType.CHARGE, updateMillis));
+
+                UserPoint updatedSender = updateUserPoint(fromUserId, sender.point() - amount);
+                UserPoint updatedReceiver = updateUserPoint(toUserId, updatedReceiverPoint);
+                pointLedger.updateBalance(updatedSender);
+                pointLedger.updateBalance(updatedReceiver);
+                // 이동한 포인트는 원래 충전분의 만료 시각을 유지
+                pointExpiryTracker.receive(toUserId, pointExpiryTracker.consume(fromUserId, amount));
+                increaseVersion(fromUserId);
+                increaseVersion(toUserId);
+                return updatedSender;
+            } finally {
+                secondLock.unlock();
+            }
+        } finally {
+            //락 해제
+            firstLock.unlock();
+        }
+
+    }
+
+    //만료된 충전분의 남은 포인트를 차감하는 기능
+    UserPoint expireChargeLots(long userId, List<ChargeLot> lots) {
+
+        Lock lock = getLockForCustomer(userId); // 고객별 락 가져오기
+        acquire(lock);
+
+        try {
+            UserPoint userPoint = selectUserPoint(userId);
+
+            // 잔액을 넘지 않는 범위에서 만료 포인트 합산
+            long expiredPoint = 0;
+            for (ChargeLot lot : lots) {
+                expiredPoint += pointExpiryTracker.expire(lot, userPoint.point() - expiredPoint);
+            }
+            if (expiredPoint == 0) {
+                return userPoint;
+            }
+
+            // 포인트 히스토리 추가
+            pointLedger.append(insertHistory(userId, expiredPoint, TransactionType.EXPIRE, System.currentTimeMillis()));
+
+            UserPoint updatedUserPoint = updateUserPoint(userId, userPoint.point() - expiredPoint);
+            pointLedger.updateBalance(updatedUserPoint);
+            increaseVersion(userId);
+            return updatedUserPoint;
         } finally {
             //락 해제
             lock.unlock();
@@ -0,0 +1,180 @@
+package io.hhplus.tdd.point.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계층형 타이밍 휠
+ * - 레벨마다 64개의 버킷을 두고, 레벨 k 의 버킷 하나는 64^k 틱을 담당한다.
+ * - 추가는 현재 틱과 만료 틱이 처음 달라지는 자리로 레벨을 바로 계산하므로 O(1) 이다.
+ * - 한 틱 전진할 때 하위 자리가 0 이 된 레벨의 버킷만 아래 레벨로 내려보내므로 틱 비용도 O(1) 이다. (만료 항목 처리 제외)
+ * - 버킷은 이중 연결 리스트라 만료 전에 필요 없어진 항목은 add 가 반환한 Entry 로 O(1) 에 제거할 수 있다.
+ * - 스레드 안전하며, 만료된 항목은 호출한 스레드로 반환하므로 휠의 락 밖에서 처리할 수 있다.
+ */
+public class TimingWheel<T> {
+
+    private static final int BUCKET_BITS = 6;
+    private static final int BUCKETS_PER_LEVEL = 1 << BUCKET_BITS;
+    private static final int BUCKET_MASK = BUCKETS_PER_LEVEL - 1;
+    // 64^8 틱 (1초 틱 기준 약 890만 년) 이후는 최상위 레벨에 두고 해당 버킷이 돌아올 때마다 다시 배치한다.
+    private static final int LEVELS = 8;
+
+    private final long tickMillis;
+    private final Bucket<T>[][] buckets;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("틱 간격은 0보다 커야 합니다.");
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        this.buckets = new Bucket[LEVELS][BUCKETS_PER_LEVEL];
+    }
+
+    //expireAtMillis 에 만료될 항목 추가, 이미 만료 시각이 지났으면 다음 advanceTo 에서 반환된다.
+    public synchronized Entry<T> add(T value, long expireAtMillis) {
+        // 만료 시각 이후의 첫 틱에서 만료 (올림)
+        long expireTick = Math.floorDiv(expireAtMillis + tickMillis - 1, tickMillis);
+        Entry<T> entry = new Entry<>(Math.max(expireTick, currentTick + 1), value);
+        place(entry);
+        size++;
+        return entry;
+    }
+
+    //만료 전에 항목 제거, 이미 만료되어 반환됐거나 제거된 항목이면 false
+    public synchronized boolean remove(Entry<T> entry) {
+        if (entry.bucket == null) {
+            return false;
+        }
+
+        entry.bucket.unlink(entry);
+        size--;
+        return true;
+    }
+
+    //nowMillis 까지 틱을 전진시키고 만료된 항목을 반환
+    public synchronized List<T> advanceTo(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<T> expired = new ArrayList<>();
+
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+
+            Bucket<T> bucket = buckets[0][(int) (currentTick & BUCKET_MASK)];
+            if (bucket == null) {
+                continue;
+            }
+            for (Entry<T> entry = bucket.detachAll(); entry != null; entry = entry.next) {
+                expired.add(entry.value);
+                size--;
+            }
+        }
+        return expired;
+    }
+
+    //아직 만료되지 않은 항목 수
+    public synchronized int size() {
+        return size;
+    }
+
+    // 현재 틱의 하위 자리가 모두 0 인 레벨은 해당 버킷을 아래 레벨로 다시 배치 (상위 레벨부터)
+    private void cascade() {
+        for (int level = LEVELS - 1; level > 0; level--) {
+            long lowerBits = currentTick & ((1L << (BUCKET_BITS * level)) - 1);
+            if (lowerBits != 0) {
+                continue;
+            }
+
+            Bucket<T> bucket = buckets[level][(int) ((currentTick >>> (BUCKET_BITS * level)) & BUCKET_MASK)];
+            if (bucket == null) {
+                continue;
+            }
+
+            Entry<T> entry = bucket.detachAll();
+            while (entry != null) {
+                // place 가 next 를 바꾸므로 먼저 읽어둔다.
+                Entry<T> next = entry.next;
+                place(entry);
+                entry = next;
+            }
+        }
+    }
+
+    // 만료 틱과 현재 틱이 처음 달라지는 자리(64진수)를 레벨로 사용
+    private void place(Entry<T> entry) {
+        long tick = Math.max(entry.tick, currentTick);
+        long diff = tick ^ currentTick;
+        int level = diff == 0 ? 0 : Math.min((63 - Long.numberOfLeadingZeros(diff)) / BUCKET_BITS, LEVELS - 1);
+        int index = (int) ((tick >>> (BUCKET_BITS * level)) & BUCKET_MASK);
+
+        Bucket<T> bucket = buckets[level][index];
+        if (bucket == null) {
+            bucket = new Bucket<>();
+            buckets[level][index] = bucket;
+        }
+        bucket.link(entry);
+    }
+
+    /**
+     * 휠에 등록된 항목, remove 에 넘겨 만료 전에 제거할 때 사용한다.
+     */
+    public static final class Entry<T> {
+
+        private final long tick;
+        private final T value;
+        // 휠의 락 안에서만 변경
+        private Bucket<T> bucket;
+        private Entry<T> prev;
+        private Entry<T> next;
+
+        private Entry(long tick, T value) {
+            this.tick = tick;
+            this.value = value;
+        }
+    }
+
+    // 버킷 하나에 담긴 항목의 이중 연결 리스트
+    private static final class Bucket<T> {
+
+        private Entry<T> head;
+
+        void link(Entry<T> entry) {
+            entry.bucket = this;
+            entry.prev = null;
+            entry.next = head;
+            if (head != null) {
+                head.prev = entry;
+            }
+            head = entry;
+        }
+
+        void unlink(Entry<T> entry) {
+            if (entry.prev != null) {
+                entry.prev.next = entry.next;
+            } else {
+                head = entry.next;
+            }
+            if (entry.next != null) {
+                entry.next.prev = entry.prev;
+            }
+            entry.bucket = null;
+            entry.prev = null;
+            entry.next = null;
+        }
+
+        // 버킷을 비우고 담겨 있던 항목들을 반환 (next 로 순회, 반환된 항목은 더 이상 제거 대상이 아님)
+        Entry<T> detachAll() {
+            Entry<T> first = head;
+            for (Entry<T> entry = first; entry != null; entry = entry.next) {
+                entry.bucket = null;
+                entry.prev = null;
+            }
+            head = null;
+            return first;
+        }
+    }
+}
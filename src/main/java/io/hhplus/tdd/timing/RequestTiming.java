@@ -0,0 +1,82 @@
+package io.hhplus.tdd.timing;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * 요청 단계별 소요 시간 측정
+ * - 스레드마다 하나의 인스턴스를 재사용하고, 샘플링된 요청에서만 활성화한다.
+ * - 비활성 상태에서 start()/end() 는 플래그만 확인하므로 할당이 없다.
+ */
+public final class RequestTiming {
+
+    // 측정 단계 (metricName 은 Server-Timing 헤더의 항목 이름)
+    @Getter
+    @RequiredArgsConstructor
+    public enum Phase {
+        LOCK("lock"),
+        SELECT("select"),
+        INSERT("insert"),
+        UPDATE("update"),
+        SERIALIZE("serialize");
+
+        private final String metricName;
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final ThreadLocal<RequestTiming> CURRENT = ThreadLocal.withInitial(RequestTiming::new);
+
+    private final long[] phaseNanos = new long[PHASES.length];
+    private boolean active;
+    private long serializationStartNanos;
+
+    private RequestTiming() {
+    }
+
+    //현재 스레드의 측정 시작 (샘플링된 요청에서만 호출)
+    static RequestTiming begin() {
+        RequestTiming timing = CURRENT.get();
+        Arrays.fill(timing.phaseNanos, 0L);
+        timing.serializationStartNanos = 0L;
+        timing.active = true;
+        return timing;
+    }
+
+    //현재 스레드의 측정 종료
+    void finish() {
+        active = false;
+    }
+
+    //단계 시작 시각, 측정 중이 아니면 0
+    public static long start() {
+        return CURRENT.get().active ? System.nanoTime() : 0L;
+    }
+
+    //단계 종료, start() 가 0 이면 아무것도 하지 않는다.
+    public static void end(Phase phase, long startNanos) {
+        if (startNanos != 0L) {
+            CURRENT.get().phaseNanos[phase.ordinal()] += System.nanoTime() - startNanos;
+        }
+    }
+
+    //응답 직렬화 시작 표시
+    static void markSerializationStart() {
+        RequestTiming timing = CURRENT.get();
+        if (timing.active) {
+            timing.serializationStartNanos = System.nanoTime();
+        }
+    }
+
+    //응답 직렬화 종료 (직렬화가 시작된 경우에만 반영)
+    void endSerialization(long endNanos) {
+        if (serializationStartNanos != 0L) {
+            phaseNanos[Phase.SERIALIZE.ordinal()] += endNanos - serializationStartNanos;
+        }
+    }
+
+    long phaseNanos(Phase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+}
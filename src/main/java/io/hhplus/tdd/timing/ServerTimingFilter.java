@@ -0,0 +1,106 @@
+package io.hhplus.tdd.timing;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 포인트 API 요청 단계별 소요 시간 측정
+ * - 요청 헤더(X-Server-Timing)가 있거나 sample-rate 확률로 샘플링된 요청만 측정한다.
+ * - 측정한 요청은 Server-Timing 응답 헤더로 단계별 소요 시간을 내려주고,
+ *   slow-threshold 이상 걸린 요청은 SlowRequestLog 에 기록한다.
+ * - 샘플링되지 않은 요청은 경로/샘플링 확인 후 바로 통과시킨다.
+ *   (OncePerRequestFilter 는 요청마다 속성 이름 문자열과 요청 속성을 만들므로 Filter 를 직접 구현한다.)
+ */
+@Component
+public class ServerTimingFilter implements Filter {
+
+    static final String TIMING_REQUEST_HEADER = "X-Server-Timing";
+    private static final String SERVER_TIMING_HEADER = "Server-Timing";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final SlowRequestLog slowRequestLog;
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    public ServerTimingFilter(SlowRequestLog slowRequestLog,
+                              @Value("${point.timing.sample-rate:0.01}") double sampleRate,
+                              @Value("${point.timing.slow-threshold:50ms}") Duration slowThreshold) {
+        this.slowRequestLog = slowRequestLog;
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!(servletRequest instanceof HttpServletRequest request)
+                || !(servletResponse instanceof HttpServletResponse response)
+                || !isSampled(request)) {
+            filterChain.doFilter(servletRequest, servletResponse);
+            return;
+        }
+
+        // 헤더를 본문보다 나중에 쓰기 위해 응답 본문을 버퍼링
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        RequestTiming timing = RequestTiming.begin();
+        long startedAtMillis = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+
+        try {
+            filterChain.doFilter(request, responseWrapper);
+        } finally {
+            long endNanos = System.nanoTime();
+            timing.endSerialization(endNanos);
+            timing.finish();
+
+            long totalNanos = endNanos - startNanos;
+            Map<String, Double> phaseMillis = new LinkedHashMap<>();
+            StringBuilder serverTiming = new StringBuilder();
+            for (RequestTiming.Phase phase : RequestTiming.Phase.values()) {
+                double millis = timing.phaseNanos(phase) / NANOS_PER_MILLI;
+                phaseMillis.put(phase.getMetricName(), millis);
+                appendMetric(serverTiming, phase.getMetricName(), millis);
+            }
+            appendMetric(serverTiming, "total", totalNanos / NANOS_PER_MILLI);
+
+            responseWrapper.setHeader(SERVER_TIMING_HEADER, serverTiming.toString());
+            responseWrapper.copyBodyToResponse();
+
+            if (totalNanos >= slowThresholdNanos) {
+                slowRequestLog.add(new TimingRecord(request.getMethod(), request.getRequestURI(),
+                        responseWrapper.getStatus(), startedAtMillis, totalNanos / NANOS_PER_MILLI, phaseMillis));
+            }
+        }
+    }
+
+    // 포인트 API 이고, 측정 요청 헤더가 있거나 sample-rate 확률에 걸린 요청
+    private boolean isSampled(HttpServletRequest request) {
+        if (!request.getRequestURI().startsWith("/point/")) {
+            return false;
+        }
+        return request.getHeader(TIMING_REQUEST_HEADER) != null
+                || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private static void appendMetric(StringBuilder serverTiming, String name, double millis) {
+        if (!serverTiming.isEmpty()) {
+            serverTiming.append(", ");
+        }
+        serverTiming.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.3f", millis));
+    }
+}
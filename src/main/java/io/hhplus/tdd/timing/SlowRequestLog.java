@@ -0,0 +1,85 @@
+package io.hhplus.tdd.timing;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.LongSupplier;
+
+/**
+ * 느린 요청 기록
+ * - 시간 구간(기본 1분)마다 가장 느린 요청을 최대 CAPACITY 건 보관한다.
+ * - 구간별 최소 힙이라 가득 차면 보관 중 가장 빠른 기록보다 느린 요청만 그 자리를 대신한다.
+ *   (평범한 요청이 많이 들어와도 느린 기록이 밀려나지 않는다.)
+ * - 현재 구간과 직전 구간을 함께 조회하므로 구간이 바뀐 직후에도 최근 기록이 비지 않는다.
+ */
+@Component
+public class SlowRequestLog {
+
+    private static final int CAPACITY = 128;
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+    private static final Comparator<TimingRecord> FASTEST_FIRST = Comparator.comparingDouble(TimingRecord::totalMillis);
+
+    private final int capacity;
+    private final long windowMillis;
+    private final LongSupplier clock;
+
+    private PriorityQueue<TimingRecord> current;
+    private PriorityQueue<TimingRecord> previous;
+    private long windowStartMillis;
+
+    public SlowRequestLog() {
+        this(CAPACITY, WINDOW, System::currentTimeMillis);
+    }
+
+    SlowRequestLog(int capacity, Duration window, LongSupplier clock) {
+        this.capacity = capacity;
+        this.windowMillis = window.toMillis();
+        this.clock = clock;
+        this.current = new PriorityQueue<>(capacity, FASTEST_FIRST);
+        this.previous = new PriorityQueue<>(capacity, FASTEST_FIRST);
+        this.windowStartMillis = clock.getAsLong();
+    }
+
+    public synchronized void add(TimingRecord record) {
+        rotate();
+
+        if (current.size() < capacity) {
+            current.add(record);
+        } else if (record.totalMillis() > current.peek().totalMillis()) {
+            // 보관 중 가장 빠른 기록만 교체
+            current.poll();
+            current.add(record);
+        }
+    }
+
+    //현재/직전 구간의 기록을 느린 순으로 최대 limit 건 반환
+    public synchronized List<TimingRecord> slowest(int limit) {
+        rotate();
+
+        List<TimingRecord> records = new ArrayList<>(current.size() + previous.size());
+        records.addAll(current);
+        records.addAll(previous);
+
+        return records.stream()
+                .sorted(FASTEST_FIRST.reversed())
+                .limit(Math.max(limit, 0))
+                .toList();
+    }
+
+    // 구간이 지났으면 현재 구간을 직전 구간으로 넘긴다. (두 구간 이상 지났으면 모두 비운다.)
+    private void rotate() {
+        long now = clock.getAsLong();
+        long elapsedWindows = (now - windowStartMillis) / windowMillis;
+        if (elapsedWindows <= 0) {
+            return;
+        }
+
+        previous = elapsedWindows == 1 ? current : new PriorityQueue<>(capacity, FASTEST_FIRST);
+        current = new PriorityQueue<>(capacity, FASTEST_FIRST);
+        windowStartMillis += elapsedWindows * windowMillis;
+    }
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.timing;
+
+import java.util.Map;
+
+/**
+ * 샘플링된 요청의 단계별 소요 시간 (ms)
+ */
+public record TimingRecord(
+        String method,
+        String uri,
+        int status,
+        long startedAtMillis,
+        double totalMillis,
+        Map<String, Double> phaseMillis
+) {
+}
@@ -0,0 +1,152 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.exception.PointException;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+class PointControllerConditionalGetTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+        when(pointService.getVersionEpoch()).thenReturn("e1");
+    }
+
+    @Test
+    @DisplayName("포인트 조회 시 유저 버전을 ETag 로 응답")
+    void pointWithETag() throws Exception {
+        long userId = 1L;
+        when(pointService.getUserVersion(userId)).thenReturn(3L);
+        when(pointService.getUserPointByUserId(userId)).thenReturn(new UserPoint(userId, 100, System.currentTimeMillis()));
+
+        mockMvc.perform(get("/point/{id}", userId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"e1-3\""))
+                .andExpect(jsonPath("$.point").value(100));
+    }
+
+    @Test
+    @DisplayName("버전이 같으면 포인트를 조회하지 않고 304 응답")
+    void pointNotModified() throws Exception {
+        long userId = 1L;
+        when(pointService.getUserVersion(userId)).thenReturn(3L);
+
+        mockMvc.perform(get("/point/{id}", userId)
+                        .header("If-None-Match", "W/\"e1-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(pointService, never()).getUserPointByUserId(anyLong());
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌었으면 내역을 다시 조회")
+    void historiesModified() throws Exception {
+        long userId = 1L;
+        when(pointService.getUserVersion(userId)).thenReturn(4L);
+        when(pointService.getPointHistoryByUserId(userId)).thenReturn(List.of(
+                new PointHistory(1L, userId, 100, TransactionType.CHARGE, System.currentTimeMillis())));
+
+        mockMvc.perform(get("/point/{id}/histories", userId)
+                        .header("If-None-Match", "W/\"e1-3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"e1-4\""))
+                .andExpect(jsonPath("$[0].amount").value(100));
+    }
+
+    @Test
+    @DisplayName("버전이 같으면 내역을 조회하지 않고 304 응답")
+    void historiesNotModified() throws Exception {
+        long userId = 1L;
+        when(pointService.getUserVersion(userId)).thenReturn(4L);
+
+        mockMvc.perform(get("/point/{id}/histories", userId)
+                        .header("If-None-Match", "W/\"e1-4\""))
+                .andExpect(status().isNotModified());
+
+        verify(pointService, never()).getPointHistoryByUserId(anyLong());
+    }
+
+    @Test
+    @DisplayName("버전이 같아도 재시작으로 구분값이 다르면 다시 조회")
+    void pointModifiedAfterRestart() throws Exception {
+        long userId = 1L;
+        when(pointService.getVersionEpoch()).thenReturn("e2");
+        when(pointService.getUserVersion(userId)).thenReturn(3L);
+        when(pointService.getUserPointByUserId(userId)).thenReturn(new UserPoint(userId, 50, System.currentTimeMillis()));
+
+        mockMvc.perform(get("/point/{id}", userId)
+                        .header("If-None-Match", "W/\"e1-3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"e2-3\""))
+                .andExpect(jsonPath("$.point").value(50));
+    }
+
+    @Test
+    @DisplayName("내역이 없어 404 응답이면 ETag 를 붙이지 않음")
+    void historiesNotFoundWithoutETag() throws Exception {
+        long userId = 1L;
+        when(pointService.getUserVersion(userId)).thenReturn(0L);
+        when(pointService.getPointHistoryByUserId(userId))
+                .thenThrow(new PointException(HttpStatus.NOT_FOUND, "포인트 내역이 존재하지 않습니다."));
+
+        mockMvc.perform(get("/point/{id}/histories", userId))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist("ETag"));
+    }
+
+    @Test
+    @DisplayName("If-None-Match 형식이 잘못되었으면 일반 조회로 200 응답")
+    void pointWithMalformedIfNoneMatch() throws Exception {
+        long userId = 1L;
+        when(pointService.getUserVersion(userId)).thenReturn(3L);
+        when(pointService.getUserPointByUserId(userId)).thenReturn(new UserPoint(userId, 100, System.currentTimeMillis()));
+
+        mockMvc.perform(get("/point/{id}", userId)
+                        .header("If-None-Match", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"e1-3\""))
+                .andExpect(jsonPath("$.point").value(100));
+    }
+
+    @Test
+    @DisplayName("여러 ETag 중 하나가 같으면 304 응답")
+    void historiesNotModifiedWithETagList() throws Exception {
+        long userId = 1L;
+        when(pointService.getUserVersion(userId)).thenReturn(4L);
+
+        mockMvc.perform(get("/point/{id}/histories", userId)
+                        .header("If-None-Match", "abc, W/\"e1-3\", \"e1-4\""))
+                .andExpect(status().isNotModified());
+
+        verify(pointService, never()).getPointHistoryByUserId(anyLong());
+    }
+}
@@ -150,7 +150,7 @@ class PointControllerConcurrencyTest {
         // Mock 데이터 및 동작 정의
         long userId = 1L;
         long excessiveAmount = 2000L; // 초과 금액 요청
-        doThrow(new PointException(HttpStatus.BAD_REQUEST, "포인트가 부족합니다. 현재 잔액: 500원, 요청 금액: 2000원"))
+        doThrow(new PointException(HttpStatus.BAD_REQUEST, "포인트가 부족합니다."))
                 .when(pointService).usePoint(userId, excessiveAmount);
 
         // MockMvc 초기화
@@ -161,6 +161,41 @@ class PointControllerConcurrencyTest {
                         .contentType("application/json")
                         .content(String.valueOf(excessiveAmount)))
                 .andExpect(status().isBadRequest()) // HTTP 상태 코드 400 검증
-                .andExpect(jsonPath("$.message").value("포인트가 부족합니다. 현재 잔액: 500원, 요청 금액: 2000원")); // 에러 메시지 검증
+                .andExpect(jsonPath("$.message").value("포인트가 부족합니다.")); // 에러 메시지 검증
+    }
+
+    @Test
+    @DisplayName("포인트 이동 요청에 받는 유저 ID 가 없으면 400 응답")
+    void testTransferWithMissingField() throws Exception {
+        // MockMvc 초기화
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+        // HTTP 요청 및 응답 검증
+        mockMvc.perform(patch("/point/{id}/transfer", 1L)
+                        .contentType("application/json")
+                        .content("{\"amount\":100}"))
+                .andExpect(status().isBadRequest()) // HTTP 상태 코드 400 검증
+                .andExpect(jsonPath("$.message").value("받는 유저 ID 와 이동 금액은 필수입니다.")); // 에러 메시지 검증
+
+        // 누락된 ID 를 0 으로 이동 요청하지 않아야 한다.
+        verify(pointService, never()).transferPoint(anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("포인트 이동 응답에는 보내는 유저의 포인트만 포함")
+    void testTransferReturnsSenderOnly() throws Exception {
+        when(pointService.transferPoint(1L, 2L, 100L)).thenReturn(new UserPoint(1L, 400L, System.currentTimeMillis()));
+
+        // MockMvc 초기화
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+        // HTTP 요청 및 응답 검증
+        mockMvc.perform(patch("/point/{id}/transfer", 1L)
+                        .contentType("application/json")
+                        .content("{\"toUserId\":2,\"amount\":100}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(1)))
+                .andExpect(jsonPath("$.point", is(400)))
+                .andExpect(jsonPath("$.receiver").doesNotExist());
     }
 }
@@ -0,0 +1,183 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PointExpiryServiceTest {
+
+    private static final Duration TTL = Duration.ofSeconds(10);
+    private static final int WORKERS = 8;
+
+    // Mock 상태를 유지하기 위한 데이터
+    private final ConcurrentHashMap<Long, UserPoint> userPoints = new ConcurrentHashMap<>();
+    private final AtomicLong historyId = new AtomicLong();
+    // 잔액 조회 지연 (블로킹 Table 호출 재현)
+    private volatile long selectDelayMillis = 0;
+
+    private PointHistoryTable pointHistoryTable;
+    private PointService pointService;
+    private PointExpiryService pointExpiryService;
+
+    @BeforeEach
+    void setUp() {
+        UserPointTable userPointTable = mock(UserPointTable.class);
+        pointHistoryTable = mock(PointHistoryTable.class);
+
+        when(userPointTable.selectById(anyLong())).thenAnswer(invocation -> {
+            if (selectDelayMillis > 0) {
+                Thread.sleep(selectDelayMillis);
+            }
+            long userId = invocation.getArgument(0);
+            return userPoints.getOrDefault(userId, UserPoint.empty(userId));
+        });
+        when(userPointTable.insertOrUpdate(anyLong(), anyLong())).thenAnswer(invocation -> {
+            long userId = invocation.getArgument(0);
+            long amount = invocation.getArgument(1);
+            UserPoint userPoint = new UserPoint(userId, amount, System.currentTimeMillis());
+            userPoints.put(userId, userPoint);
+            return userPoint;
+        });
+
+        when(pointHistoryTable.insert(anyLong(), anyLong(), any(), anyLong())).thenAnswer(invocation ->
+                new PointHistory(historyId.incrementAndGet(), invocation.getArgument(0), invocation.getArgument(1),
+                        invocation.getArgument(2), invocation.getArgument(3)));
+
+        pointService = new PointService(pointHistoryTable, userPointTable);
+        pointService.getPointExpiryTracker().enable(TTL);
+        pointExpiryService = new PointExpiryService(pointService, TTL, WORKERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointExpiryService.shutdown();
+    }
+
+    @Test
+    @DisplayName("만료 기간이 지나지 않은 충전분은 차감하지 않음")
+    void notExpiredBeforeTtl() {
+        pointService.chargeUserPoint(1L, 100);
+
+        assertEquals(0, pointExpiryService.expireUntil(System.currentTimeMillis()));
+        assertEquals(100, userPoints.get(1L).point());
+    }
+
+    @Test
+    @DisplayName("만료 시 사용하고 남은 충전 포인트만 EXPIRE 로 차감")
+    void expireRemainingChargedPoint() {
+        pointService.chargeUserPoint(1L, 100);
+        pointService.chargeUserPoint(1L, 50);
+        // 오래된 충전분(100)부터 사용
+        pointService.usePoint(1L, 120);
+
+        int expiredUsers = pointExpiryService.expireUntil(System.currentTimeMillis() + TTL.toMillis() + 2_000);
+
+        assertEquals(1, expiredUsers);
+        assertEquals(0, userPoints.get(1L).point());
+        verify(pointHistoryTable, times(1)).insert(eq(1L), eq(30L), eq(TransactionType.EXPIRE), anyLong());
+    }
+
+    @Test
+    @DisplayName("모두 사용된 충전분은 만료 처리하지 않음")
+    void skipFullyUsedCharge() {
+        pointService.chargeUserPoint(1L, 100);
+        pointService.usePoint(1L, 100);
+
+        assertEquals(0, pointExpiryService.expireUntil(System.currentTimeMillis() + TTL.toMillis() + 2_000));
+        verify(pointHistoryTable, never()).insert(anyLong(), anyLong(), eq(TransactionType.EXPIRE), anyLong());
+    }
+
+    @Test
+    @DisplayName("이동한 포인트는 원래 충전분의 만료 시각에 만료")
+    void transferKeepsOriginalExpiry() {
+        // 5초 전에 충전된 포인트 (5초 뒤 만료)
+        long now = System.currentTimeMillis();
+        userPoints.put(1L, new UserPoint(1L, 100, now - 5_000));
+        pointService.getPointExpiryTracker().recordCharge(1L, 100, now - 5_000);
+
+        pointService.transferPoint(1L, 2L, 40);
+
+        // 이동 시점부터 TTL 을 새로 세면 아직 만료되지 않을 시각
+        int expiredUsers = pointExpiryService.expireUntil(now + 7_000);
+
+        assertEquals(2, expiredUsers);
+        assertEquals(0, userPoints.get(1L).point());
+        assertEquals(0, userPoints.get(2L).point());
+        verify(pointHistoryTable, times(1)).insert(eq(1L), eq(60L), eq(TransactionType.EXPIRE), anyLong());
+        verify(pointHistoryTable, times(1)).insert(eq(2L), eq(40L), eq(TransactionType.EXPIRE), anyLong());
+    }
+
+    @Test
+    @DisplayName("같은 틱에 만료되는 여러 유저를 병렬로 차감")
+    void expireManyUsersInSameTick() {
+        int userCount = 64;
+        for (long userId = 1; userId <= userCount; userId++) {
+            pointService.chargeUserPoint(userId, 100);
+        }
+
+        // 유저마다 잔액 조회에 20ms 가 걸리면 순차 처리 시 최소 1280ms
+        selectDelayMillis = 20;
+        long start = System.nanoTime();
+        int expiredUsers = pointExpiryService.expireUntil(System.currentTimeMillis() + TTL.toMillis() + 2_000);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(userCount, expiredUsers);
+        for (long userId = 1; userId <= userCount; userId++) {
+            assertEquals(0, userPoints.get(userId).point());
+        }
+        verify(pointHistoryTable, times(userCount)).insert(anyLong(), eq(100L), eq(TransactionType.EXPIRE), anyLong());
+        assertTrue(elapsedMillis < userCount * selectDelayMillis / 2,
+                "만료 처리 시간 " + elapsedMillis + "ms");
+    }
+
+    @Test
+    @DisplayName("모두 사용된 충전분은 만료 전에 타이밍 휠에서 제거")
+    void removeFullyUsedChargeFromWheel() {
+        PointExpiryTracker tracker = pointService.getPointExpiryTracker();
+        pointService.chargeUserPoint(1L, 100);
+        pointService.chargeUserPoint(1L, 50);
+        assertEquals(2, tracker.scheduledLots());
+
+        // 만료가 빠른 충전분부터 사용하므로 충전분 하나가 모두 사용됨
+        pointService.usePoint(1L, 100);
+        assertEquals(1, tracker.scheduledLots());
+
+        // 이동으로 비워진 충전분도 제거되고, 받는 유저의 충전분만 남는다.
+        pointService.transferPoint(1L, 2L, 50);
+        assertEquals(1, tracker.scheduledLots());
+
+        pointService.usePoint(2L, 50);
+        assertEquals(0, tracker.scheduledLots());
+    }
+
+    @Test
+    @DisplayName("만료 처리 중 예외가 나도 스케줄 실행은 계속")
+    void scheduledExpiryContinuesAfterFailure() {
+        PointService failingPointService = mock(PointService.class);
+        when(failingPointService.getPointExpiryTracker()).thenThrow(new IllegalStateException("만료 관리 실패"));
+        PointExpiryService failingExpiryService = new PointExpiryService(failingPointService, TTL, 1);
+
+        try {
+            assertDoesNotThrow(failingExpiryService::expireScheduled);
+            assertDoesNotThrow(failingExpiryService::expireScheduled);
+            verify(failingPointService, times(2)).getPointExpiryTracker();
+        } finally {
+            failingExpiryService.shutdown();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.exception.PointException;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PointExportServiceTest {
+
+    private final AtomicLong historyId = new AtomicLong(100);
+
+    private PointService pointService;
+    private PointExportService pointExportService;
+
+    @BeforeEach
+    void setUp() {
+        UserPointTable userPointTable = mock(UserPointTable.class);
+        PointHistoryTable pointHistoryTable = mock(PointHistoryTable.class);
+
+        // Mock 동작 정의: 잔액 0 에서 시작, 내역/잔액은 고정 시각으로 기록
+        when(userPointTable.selectById(anyLong())).thenAnswer(invocation -> new UserPoint(invocation.getArgument(0), 0, 0));
+        when(userPointTable.insertOrUpdate(anyLong(), anyLong()))
+                .thenAnswer(invocation -> new UserPoint(invocation.getArgument(0), invocation.getArgument(1), 10L));
+        // 내역 ID 는 유저 ID 와 다른 별도 시퀀스 (필드 순서 검증)
+        when(pointHistoryTable.insert(anyLong(), anyLong(), any(), anyLong())).thenAnswer(invocation ->
+                new PointHistory(historyId.incrementAndGet(), invocation.getArgument(0), invocation.getArgument(1),
+                        invocation.getArgument(2), 20L));
+
+        pointService = new PointService(pointHistoryTable, userPointTable);
+        pointExportService = new PointExportService(pointService);
+    }
+
+    @Test
+    @DisplayName("포인트 내역 NDJSON 내보내기")
+    void exportHistoriesAsNdjson() throws Exception {
+        pointService.chargeUserPoint(2L, 300);
+        pointService.chargeUserPoint(1L, 100);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int endCursor = pointExportService.historyEndCursor(0);
+        long count = pointExportService.exportHistories(0, endCursor, ExportFormat.NDJSON, out);
+
+        assertEquals(2, count);
+        assertEquals("""
+                {"id":101,"userId":2,"amount":300,"type":"CHARGE","updateMillis":20}
+                {"id":102,"userId":1,"amount":100,"type":"CHARGE","updateMillis":20}
+                """, out.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    @DisplayName("커서부터 이어서 포인트 내역 바이너리 내보내기")
+    void exportHistoriesAsBinaryFromCursor() throws Exception {
+        pointService.chargeUserPoint(1L, 100);
+        pointService.usePoint(1L, 40);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = pointExportService.exportHistories(1, pointExportService.historyEndCursor(1), ExportFormat.BINARY, out);
+
+        // 고정 길이 레코드 한 건 (33 byte)
+        assertEquals(1, count);
+        ByteBuffer record = ByteBuffer.wrap(out.toByteArray());
+        assertEquals(33, record.remaining());
+        assertEquals(102L, record.getLong());
+        assertEquals(1L, record.getLong());
+        assertEquals(40L, record.getLong());
+        assertEquals(TransactionType.USE.ordinal(), record.get());
+        assertEquals(20L, record.getLong());
+    }
+
+    @Test
+    @DisplayName("유저 ID 순으로 잔액 내보내기 및 커서 재개")
+    void exportBalancesFromCursor() throws Exception {
+        pointService.chargeUserPoint(3L, 300);
+        pointService.chargeUserPoint(1L, 100);
+        pointService.chargeUserPoint(2L, 200);
+
+        ByteArrayOutputStream all = new ByteArrayOutputStream();
+        assertEquals(3, pointExportService.exportBalances(null, ExportFormat.NDJSON, all));
+        assertEquals("""
+                {"id":1,"point":100,"updateMillis":10}
+                {"id":2,"point":200,"updateMillis":10}
+                {"id":3,"point":300,"updateMillis":10}
+                """, all.toString(StandardCharsets.US_ASCII));
+
+        ByteArrayOutputStream rest = new ByteArrayOutputStream();
+        assertEquals(1, pointExportService.exportBalances(2L, ExportFormat.BINARY, rest));
+        assertEquals(24, rest.size());
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 커서로 내보내기")
+    void exportHistoriesWithInvalidCursor() {
+        pointService.chargeUserPoint(1L, 100);
+
+        PointException exception = assertThrows(PointException.class, () -> pointExportService.historyEndCursor(5));
+
+        assertEquals("유효하지 않은 커서입니다.", exception.getMessage());
+    }
+}
@@ -0,0 +1,117 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.dto.ReconciliationReport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PointReconciliationServiceTest {
+
+    // Mock 상태를 유지하기 위한 데이터
+    private final ConcurrentHashMap<Long, UserPoint> userPoints = new ConcurrentHashMap<>();
+    private final AtomicLong historyId = new AtomicLong();
+
+    private PointService pointService;
+    private PointReconciliationService pointReconciliationService;
+
+    @BeforeEach
+    void setUp() {
+        UserPointTable userPointTable = mock(UserPointTable.class);
+        PointHistoryTable pointHistoryTable = mock(PointHistoryTable.class);
+
+        when(userPointTable.selectById(anyLong())).thenAnswer(invocation -> {
+            long userId = invocation.getArgument(0);
+            return userPoints.getOrDefault(userId, UserPoint.empty(userId));
+        });
+        when(userPointTable.insertOrUpdate(anyLong(), anyLong())).thenAnswer(invocation -> {
+            long userId = invocation.getArgument(0);
+            long amount = invocation.getArgument(1);
+            UserPoint userPoint = new UserPoint(userId, amount, System.currentTimeMillis());
+            userPoints.put(userId, userPoint);
+            return userPoint;
+        });
+        when(pointHistoryTable.insert(anyLong(), anyLong(), any(), anyLong())).thenAnswer(invocation ->
+                new PointHistory(historyId.incrementAndGet(), invocation.getArgument(0), invocation.getArgument(1),
+                        invocation.getArgument(2), invocation.getArgument(3)));
+
+        pointService = new PointService(pointHistoryTable, userPointTable);
+        pointReconciliationService = new PointReconciliationService(pointService, userPointTable);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointReconciliationService.shutdown();
+    }
+
+    @Test
+    @DisplayName("원장 전체 대사 시 잔액과 원장 합계가 일치")
+    void reconcileAllWithoutMismatch() {
+        // 병렬 분할이 일어나도록 충분한 원장 생성
+        for (int i = 0; i < 20_000; i++) {
+            long userId = i % 50;
+            pointService.chargeUserPoint(userId, 10);
+            if (i % 3 == 0) {
+                pointService.usePoint(userId, 5);
+            }
+        }
+
+        ReconciliationReport report = pointReconciliationService.reconcileAll();
+
+        assertEquals(0, report.fromPosition());
+        assertEquals(pointService.getPointLedger().size(), report.toPosition());
+        assertEquals(50, report.checkedUsers());
+        assertTrue(report.mismatches().isEmpty());
+    }
+
+    @Test
+    @DisplayName("잔액이 원장과 다르면 불일치로 보고")
+    void reconcileAllWithMismatch() {
+        pointService.chargeUserPoint(1L, 100);
+        pointService.usePoint(1L, 30);
+        pointService.chargeUserPoint(2L, 200);
+
+        // 원장을 거치지 않고 잔액 변경
+        userPoints.put(2L, new UserPoint(2L, 999, System.currentTimeMillis()));
+
+        ReconciliationReport report = pointReconciliationService.reconcileAll();
+
+        assertEquals(List.of(new ReconciliationReport.Mismatch(2L, 200, 999)), report.mismatches());
+    }
+
+    @Test
+    @DisplayName("증분 대사는 체크포인트 이후 변경된 유저와 직전 불일치 유저만 검증")
+    void reconcileIncrementally() {
+        pointService.chargeUserPoint(1L, 100);
+        pointService.chargeUserPoint(2L, 200);
+        userPoints.put(2L, new UserPoint(2L, 1, System.currentTimeMillis()));
+
+        ReconciliationReport first = pointReconciliationService.reconcile();
+        assertEquals(2, first.checkedUsers());
+        assertEquals(1, first.mismatches().size());
+
+        // 불일치 유저 복구 후 다른 유저만 변경
+        userPoints.put(2L, new UserPoint(2L, 200, System.currentTimeMillis()));
+        pointService.chargeUserPoint(3L, 300);
+
+        ReconciliationReport second = pointReconciliationService.reconcile();
+
+        assertEquals(first.toPosition(), second.fromPosition());
+        assertEquals(3, second.toPosition());
+        // 유저 3 (신규 원장) + 유저 2 (직전 불일치)
+        assertEquals(2, second.checkedUsers());
+        assertTrue(second.mismatches().isEmpty());
+    }
+}
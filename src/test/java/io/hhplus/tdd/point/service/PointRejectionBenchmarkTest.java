@@ -0,0 +1,149 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.exception.PointException;
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * 거절 경로 간이 벤치마크
+ * - 기존 방식(스택 트레이스 + 문자열 연결 메시지)과 현재 PointService 거절 경로의 요청당 할당량/지연 시간을 비교한다.
+ * - 두 방식 모두 같은 Mock 잔액 조회를 거치므로 차이는 예외 생성 비용에서만 나온다.
+ * - 할당량만 검증한다. 지연 시간은 JIT/GC/부하에 따라 흔들리므로 로그로만 남긴다.
+ */
+class PointRejectionBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PointRejectionBenchmarkTest.class);
+
+    private static final int WARMUP = 5_000;
+    private static final int ITERATIONS = 20_000;
+
+    // 기존 방식의 거절 예외 (스택 트레이스 생성)
+    private static class StackfulPointException extends RuntimeException {
+        StackfulPointException(String message) {
+            super(message);
+        }
+    }
+
+    @Test
+    @DisplayName("잘못된 금액 거절: 스택 트레이스 없는 재사용 예외가 할당이 더 적다")
+    void invalidAmountRejection() {
+        UserPointTable userPointTable = mock(UserPointTable.class);
+        PointHistoryTable pointHistoryTable = mock(PointHistoryTable.class);
+        PointService pointService = new PointService(pointHistoryTable, userPointTable);
+        Lock lock = new ReentrantLock();
+
+        // 기존 경로: 락을 잡은 뒤 금액을 검증하고 매번 예외 생성
+        Result baseline = measure(() -> {
+            lock.lock();
+            try {
+                throw new StackfulPointException("사용 금액은 0보다 커야 합니다.");
+            } catch (StackfulPointException e) {
+                return e.getMessage().length();
+            } finally {
+                lock.unlock();
+            }
+        });
+        Result current = measure(() -> {
+            try {
+                pointService.usePoint(1L, -1L);
+                return 0;
+            } catch (PointException e) {
+                return e.getMessage().length();
+            }
+        });
+
+        // 금액 검증은 락/조회 이전에 끝난다.
+        verifyNoInteractions(userPointTable, pointHistoryTable);
+        report("잘못된 금액", baseline, current);
+        assertTrue(current.bytesPerOp() < baseline.bytesPerOp());
+    }
+
+    @Test
+    @DisplayName("잔액 부족 거절: 재사용 예외가 할당이 더 적다")
+    void insufficientBalanceRejection() {
+        // 호출 기록을 남기지 않는 Mock 으로 잔액 50 고정
+        UserPointTable userPointTable = mock(UserPointTable.class, withSettings().stubOnly());
+        PointHistoryTable pointHistoryTable = mock(PointHistoryTable.class, withSettings().stubOnly());
+        when(userPointTable.selectById(anyLong())).thenReturn(new UserPoint(1L, 50, System.currentTimeMillis()));
+        PointService pointService = new PointService(pointHistoryTable, userPointTable);
+        Lock lock = new ReentrantLock();
+
+        // 기존 경로: 락 안에서 잔액을 조회하고 금액을 연결한 메시지로 매번 예외 생성
+        Result baseline = measure(() -> {
+            lock.lock();
+            try {
+                UserPoint userPoint = userPointTable.selectById(1L);
+                throw new StackfulPointException(
+                        "포인트가 부족합니다. 현재 잔액: " + userPoint.point() + "원, 요청 금액: " + 100L + "원");
+            } catch (StackfulPointException e) {
+                return e.getMessage().length();
+            } finally {
+                lock.unlock();
+            }
+        });
+        Result current = measure(() -> {
+            try {
+                pointService.usePoint(1L, 100L);
+                return 0;
+            } catch (PointException e) {
+                return e.getMessage().length();
+            }
+        });
+
+        report("잔액 부족", baseline, current);
+        assertTrue(current.bytesPerOp() < baseline.bytesPerOp());
+    }
+
+    private record Result(double bytesPerOp, double nanosPerOp) {
+    }
+
+    private Result measure(LongSupplier operation) {
+        com.sun.management.ThreadMXBean threadMXBean = threadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += operation.getAsLong();
+        }
+
+        long bytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += operation.getAsLong();
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        assertTrue(sink > 0);
+        return new Result((double) allocatedBytes / ITERATIONS, (double) elapsedNanos / ITERATIONS);
+    }
+
+    private void report(String name, Result baseline, Result current) {
+        log.info("[{}] 기존: {} byte/op, {} ns/op | 현재: {} byte/op, {} ns/op",
+                name, baseline.bytesPerOp(), baseline.nanosPerOp(), current.bytesPerOp(), current.nanosPerOp());
+    }
+
+    private com.sun.management.ThreadMXBean threadMXBean() {
+        // HotSpot 이 아니면 스레드별 할당량을 측정할 수 없으므로 건너뛴다.
+        Assumptions.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        return threadMXBean;
+    }
+}
@@ -7,6 +7,7 @@ import io.hhplus.tdd.point.PointHistory;
 import io.hhplus.tdd.point.TransactionType;
 import io.hhplus.tdd.point.UserPoint;
 import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,9 +19,11 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -35,6 +38,19 @@ class PointServiceTest {
     @Mock
     private PointHistoryTable pointHistoryTable; //Mock 객체
 
+    // Mock 내역 ID 시퀀스
+    private final AtomicLong historyId = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        // 원장에 기록할 수 있도록 Table 과 같은 형태의 결과를 반환 (개별 테스트에서 덮어쓸 수 있도록 lenient)
+        lenient().when(pointHistoryTable.insert(anyLong(), anyLong(), any(), anyLong())).thenAnswer(invocation ->
+                new PointHistory(historyId.incrementAndGet(), invocation.getArgument(0), invocation.getArgument(1),
+                        invocation.getArgument(2), invocation.getArgument(3)));
+        lenient().when(userPointTable.insertOrUpdate(anyLong(), anyLong())).thenAnswer(invocation ->
+                new UserPoint(invocation.getArgument(0), invocation.getArgument(1), System.currentTimeMillis()));
+    }
+
     @Test
     @DisplayName("특정 유저의 포인트 조회 성공 케이스")
     void getUserPointByUserId() {
@@ -204,7 +220,7 @@ class PointServiceTest {
             pointService.usePoint(1L, 100);
         });
 
-        assertEquals("포인트가 부족합니다. 현재 잔액: " + userPoint.point() + "원, 요청 금액: " + 100 + "원", exception.getMessage());
+        assertEquals("포인트가 부족합니다.", exception.getMessage());
     }
 
     @Test
@@ -242,9 +258,11 @@ class PointServiceTest {
         doAnswer(invocation -> {
             long userId = invocation.getArgument(0);
             long updatedAmount = invocation.getArgument(1);
-            userPoints.put(userId, new UserPoint(userId, updatedAmount, System.currentTimeMillis()));
-            return null;
+            UserPoint userPoint = new UserPoint(userId, updatedAmount, System.currentTimeMillis());
+            userPoints.put(userId, userPoint);
+            return userPoint;
         }).when(userPointTable).insertOrUpdate(anyLong(), anyLong());
+        stubHistoryInsert(pointHistoryTable);
 
         // PointService 인스턴스 생성: Mock 객체 주입
         PointService pointService = new PointService(pointHistoryTable, userPointTable);
@@ -289,9 +307,11 @@ class PointServiceTest {
         doAnswer(invocation -> {
             long userId = invocation.getArgument(0);
             long updatedAmount = invocation.getArgument(1);
-            userPoints.put(userId, new UserPoint(userId, updatedAmount, System.currentTimeMillis()));
-            return null;
+            UserPoint userPoint = new UserPoint(userId, updatedAmount, System.currentTimeMillis());
+            userPoints.put(userId, userPoint);
+            return userPoint;
         }).when(userPointTable).insertOrUpdate(anyLong(), anyLong());
+        stubHistoryInsert(pointHistoryTable);
 
         PointService pointService = new PointService(pointHistoryTable, userPointTable);
 
@@ -309,4 +329,152 @@ class PointServiceTest {
         // 최종 상태 검증: 고객 1의 잔액이 동시성 제어로 인해 올바르게 계산되었는지 확인
         assertEquals(1200, userPoints.get(1L).point()); // 고객 1 최종 잔액 = 1200
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("충전/사용 성공 시에만 유저 데이터 버전 증가")
+    void increaseUserVersionOnSuccessfulChange() {
+        when(userPointTable.selectById(1L)).thenReturn(new UserPoint(1L, 100, System.currentTimeMillis()));
+
+        assertEquals(0, pointService.getUserVersion(1L));
+
+        pointService.chargeUserPoint(1L, 100);
+        pointService.usePoint(1L, 50);
+        assertEquals(2, pointService.getUserVersion(1L));
+
+        // 실패한 요청은 버전을 바꾸지 않는다.
+        assertThrows(PointException.class, () -> pointService.usePoint(1L, 1_000));
+        assertThrows(PointException.class, () -> pointService.chargeUserPoint(1L, 0));
+        assertEquals(2, pointService.getUserVersion(1L));
+        assertEquals(0, pointService.getUserVersion(2L));
+    }
+
+    @Test
+    @DisplayName("포인트 이동 성공 케이스")
+    void transferPoint() {
+        UserPoint sender = new UserPoint(1L, 100, System.currentTimeMillis());
+        UserPoint receiver = new UserPoint(2L, 10, System.currentTimeMillis());
+
+        when(userPointTable.selectById(1L)).thenReturn(sender);
+        when(userPointTable.selectById(2L)).thenReturn(receiver);
+        when(userPointTable.insertOrUpdate(1L, 70)).thenReturn(new UserPoint(1L, 70, System.currentTimeMillis()));
+        when(userPointTable.insertOrUpdate(2L, 40)).thenReturn(new UserPoint(2L, 40, System.currentTimeMillis()));
+
+        UserPoint result = pointService.transferPoint(1L, 2L, 30);
+
+        // 보내는 유저의 포인트만 반환
+        assertEquals(1L, result.id());
+        assertEquals(70, result.point());
+        verify(userPointTable, times(1)).insertOrUpdate(2L, 40);
+        verify(pointHistoryTable, times(1)).insert(eq(1L), eq(30L), eq(TransactionType.USE), anyLong());
+        verify(pointHistoryTable, times(1)).insert(eq(2L), eq(30L), eq(TransactionType.CHARGE), anyLong());
+    }
+
+    @Test
+    @DisplayName("잔액 부족으로 포인트 이동 실패")
+    void transferPointInsufficientBalance() {
+        when(userPointTable.selectById(1L)).thenReturn(new UserPoint(1L, 20, System.currentTimeMillis()));
+        when(userPointTable.selectById(2L)).thenReturn(new UserPoint(2L, 0, System.currentTimeMillis()));
+
+        PointException exception = assertThrows(PointException.class, () -> {
+            pointService.transferPoint(1L, 2L, 30);
+        });
+
+        assertEquals("포인트가 부족합니다.", exception.getMessage());
+        verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+        verifyNoInteractions(pointHistoryTable);
+    }
+
+    @Test
+    @DisplayName("받는 유저의 최대 잔고 초과로 포인트 이동 실패")
+    void transferPointExceedMaxBalance() {
+        long maxBalance = 1_000_000L;
+        when(userPointTable.selectById(1L)).thenReturn(new UserPoint(1L, 100, System.currentTimeMillis()));
+        when(userPointTable.selectById(2L)).thenReturn(new UserPoint(2L, maxBalance, System.currentTimeMillis()));
+
+        PointException exception = assertThrows(PointException.class, () -> {
+            pointService.transferPoint(1L, 2L, 1);
+        });
+
+        assertEquals("최대 잔고는 " + maxBalance + "을 초과할 수 없습니다.", exception.getMessage());
+        verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("잘못된 금액 또는 본인에게 포인트 이동")
+    void transferPointWithInvalidRequest() {
+        PointException invalidAmount = assertThrows(PointException.class, () -> {
+            pointService.transferPoint(1L, 2L, 0);
+        });
+        PointException selfTransfer = assertThrows(PointException.class, () -> {
+            pointService.transferPoint(1L, 1L, 100);
+        });
+        PointException invalidUser = assertThrows(PointException.class, () -> {
+            pointService.transferPoint(1L, 0L, 100);
+        });
+
+        assertEquals("이동 금액은 0보다 커야 합니다.", invalidAmount.getMessage());
+        assertEquals("유효하지 않은 유저 ID 입니다.", invalidUser.getMessage());
+        assertEquals("같은 유저에게는 포인트를 이동할 수 없습니다.", selfTransfer.getMessage());
+        verifyNoInteractions(userPointTable, pointHistoryTable);
+    }
+
+    @Test
+    @DisplayName("두 유저 간 반대 방향 포인트 이동 동시 요청 시 데드락 없이 처리")
+    void testOpposingTransferConcurrency() throws InterruptedException {
+        // Mock 객체 생성
+        UserPointTable userPointTable = mock(UserPointTable.class);
+        PointHistoryTable pointHistoryTable = mock(PointHistoryTable.class);
+
+        // Mock 상태 관리
+        ConcurrentHashMap<Long, UserPoint> userPoints = new ConcurrentHashMap<>();
+        userPoints.put(1L, new UserPoint(1L, 500_000, System.currentTimeMillis()));
+        userPoints.put(2L, new UserPoint(2L, 500_000, System.currentTimeMillis()));
+
+        when(userPointTable.selectById(anyLong())).thenAnswer(invocation -> {
+            long userId = invocation.getArgument(0);
+            return userPoints.get(userId);
+        });
+        when(userPointTable.insertOrUpdate(anyLong(), anyLong())).thenAnswer(invocation -> {
+            long userId = invocation.getArgument(0);
+            long updatedAmount = invocation.getArgument(1);
+            UserPoint userPoint = new UserPoint(userId, updatedAmount, System.currentTimeMillis());
+            userPoints.put(userId, userPoint);
+            return userPoint;
+        });
+        stubHistoryInsert(pointHistoryTable);
+
+        PointService pointService = new PointService(pointHistoryTable, userPointTable);
+
+        // 32개 스레드에서 1 -> 2 (3포인트), 2 -> 1 (2포인트) 이동을 각각 2000번 동시에 요청
+        int transfersPerDirection = 2_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < transfersPerDirection; i++) {
+            executorService.submit(() -> {
+                start.await();
+                return pointService.transferPoint(1L, 2L, 3);
+            });
+            executorService.submit(() -> {
+                start.await();
+                return pointService.transferPoint(2L, 1L, 2);
+            });
+        }
+        start.countDown();
+
+        // 락 순서가 고정되어 있으므로 데드락 없이 모두 완료되어야 한다.
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(30, TimeUnit.SECONDS));
+
+        // 총 포인트는 보존되고, 순 이동량만큼 잔액이 변해야 한다.
+        assertEquals(500_000 - transfersPerDirection, userPoints.get(1L).point());
+        assertEquals(500_000 + transfersPerDirection, userPoints.get(2L).point());
+        verify(pointHistoryTable, times(transfersPerDirection * 4)).insert(anyLong(), anyLong(), any(), anyLong());
+    }
+
+    // 원장에 기록할 수 있도록 Table 과 같은 형태의 내역을 반환
+    private void stubHistoryInsert(PointHistoryTable pointHistoryTable) {
+        when(pointHistoryTable.insert(anyLong(), anyLong(), any(), anyLong())).thenAnswer(invocation ->
+                new PointHistory(historyId.incrementAndGet(), invocation.getArgument(0), invocation.getArgument(1),
+                        invocation.getArgument(2), invocation.getArgument(3)));
+    }
+}
@@ -0,0 +1,65 @@
+package io.hhplus.tdd.point.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    @Test
+    @DisplayName("만료 시각이 된 항목만 반환")
+    void advanceToReturnsExpiredEntries() {
+        TimingWheel<String> wheel = new TimingWheel<>(1_000, 0);
+        wheel.add("a", 3_000);
+        wheel.add("b", 5_500);
+
+        assertTrue(wheel.advanceTo(2_999).isEmpty());
+        assertEquals(List.of("a"), wheel.advanceTo(3_000));
+        // 만료 시각 이후의 첫 틱(6초)에서 만료
+        assertTrue(wheel.advanceTo(5_999).isEmpty());
+        assertEquals(List.of("b"), wheel.advanceTo(6_000));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("상위 레벨 항목이 하위 레벨로 내려와 정확한 틱에 만료")
+    void cascadeFromUpperLevels() {
+        TimingWheel<String> wheel = new TimingWheel<>(1, 0);
+        // 레벨 0 (64 미만), 레벨 1 (64^2 미만), 레벨 2 (64^3 미만)
+        wheel.add("level0", 10);
+        wheel.add("level1", 1_000);
+        wheel.add("level2", 200_000);
+
+        assertEquals(List.of("level0"), wheel.advanceTo(10));
+        assertTrue(wheel.advanceTo(999).isEmpty());
+        assertEquals(List.of("level1"), wheel.advanceTo(1_000));
+        assertTrue(wheel.advanceTo(199_999).isEmpty());
+        assertEquals(List.of("level2"), wheel.advanceTo(200_000));
+    }
+
+    @Test
+    @DisplayName("이미 만료 시각이 지난 항목은 다음 틱에 반환")
+    void addAlreadyExpiredEntry() {
+        TimingWheel<String> wheel = new TimingWheel<>(1_000, 10_000);
+        wheel.add("late", 1_000);
+
+        assertEquals(List.of("late"), wheel.advanceTo(11_000));
+    }
+
+    @Test
+    @DisplayName("만료 전에 제거한 항목은 반환하지 않음")
+    void removeBeforeExpire() {
+        TimingWheel<String> wheel = new TimingWheel<>(1, 0);
+        TimingWheel.Entry<String> removed = wheel.add("removed", 200_000);
+        wheel.add("kept", 200_000);
+
+        assertTrue(wheel.remove(removed));
+        assertFalse(wheel.remove(removed));
+        assertEquals(1, wheel.size());
+        assertEquals(List.of("kept"), wheel.advanceTo(200_000));
+        assertEquals(0, wheel.size());
+    }
+}
@@ -0,0 +1,112 @@
+package io.hhplus.tdd.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "point.timing.sample-rate=0",
+        "point.timing.slow-threshold=0ms"
+})
+@AutoConfigureMockMvc
+class ServerTimingFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("측정 요청 시 Server-Timing 헤더로 단계별 소요 시간 응답 및 느린 요청 기록")
+    void serverTimingHeaderOnRequestedTiming() throws Exception {
+        mockMvc.perform(patch("/point/{id}/charge", 31L)
+                        .header(ServerTimingFilter.TIMING_REQUEST_HEADER, "true")
+                        .contentType("application/json")
+                        .content("100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.point", is(100)))
+                .andExpect(header().string("Server-Timing", allOf(
+                        containsString("lock;dur="),
+                        containsString("select;dur="),
+                        containsString("insert;dur="),
+                        containsString("update;dur="),
+                        containsString("serialize;dur="),
+                        containsString("total;dur="))));
+
+        mockMvc.perform(get("/admin/point/timings/slowest"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].uri", hasItem("/point/31/charge")));
+    }
+
+    @Test
+    @DisplayName("샘플링되지 않은 요청은 Server-Timing 헤더 없음")
+    void noServerTimingHeaderWhenNotSampled() throws Exception {
+        mockMvc.perform(get("/point/{id}", 32L))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Server-Timing"));
+    }
+
+    @Test
+    @DisplayName("샘플링되지 않은 요청은 필터와 단계 측정에서 할당이 없음")
+    void noAllocationWhenNotSampled() throws Exception {
+        com.sun.management.ThreadMXBean threadMXBean = threadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        ServerTimingFilter filter = new ServerTimingFilter(new SlowRequestLog(), 0, Duration.ofMillis(50));
+        // 헤더 조회 시 할당하지 않는 요청 (MockHttpServletRequest 는 헤더 이름을 소문자로 바꾸며 할당)
+        HttpServletRequest request = new HttpServletRequestWrapper(new MockHttpServletRequest()) {
+            @Override
+            public String getRequestURI() {
+                return "/point/1";
+            }
+
+            @Override
+            public String getHeader(String name) {
+                return null;
+            }
+        };
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        // 서비스 대신 단계 측정만 호출
+        FilterChain chain = (req, res) -> RequestTiming.end(RequestTiming.Phase.SELECT, RequestTiming.start());
+
+        for (int i = 0; i < 20_000; i++) {
+            filter.doFilter(request, response, chain);
+        }
+
+        // JIT 컴파일 등 측정 외 요인을 피하기 위해 여러 번 측정해 최솟값 사용
+        long minAllocatedBytes = Long.MAX_VALUE;
+        for (int round = 0; round < 3; round++) {
+            long bytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < 10_000; i++) {
+                filter.doFilter(request, response, chain);
+            }
+            minAllocatedBytes = Math.min(minAllocatedBytes, threadMXBean.getThreadAllocatedBytes(threadId) - bytesBefore);
+        }
+
+        assertEquals(0, minAllocatedBytes);
+    }
+
+    private com.sun.management.ThreadMXBean threadMXBean() {
+        // HotSpot 이 아니면 스레드별 할당량을 측정할 수 없으므로 건너뛴다.
+        Assumptions.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        return threadMXBean;
+    }
+}
@@ -0,0 +1,66 @@
+package io.hhplus.tdd.timing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowRequestLogTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final SlowRequestLog slowRequestLog = new SlowRequestLog(3, Duration.ofSeconds(60), now::get);
+
+    @Test
+    @DisplayName("빠른 요청이 많이 들어와도 느린 요청 기록은 유지")
+    void keepSlowestAgainstManyFastRequests() {
+        slowRequestLog.add(record(500));
+        slowRequestLog.add(record(300));
+        slowRequestLog.add(record(400));
+        for (int i = 0; i < 1_000; i++) {
+            slowRequestLog.add(record(60));
+        }
+
+        assertEquals(List.of(500.0, 400.0, 300.0), totals(slowRequestLog.slowest(10)));
+    }
+
+    @Test
+    @DisplayName("가득 찬 경우 가장 빠른 기록만 더 느린 요청으로 교체")
+    void replaceFastestWhenSlower() {
+        slowRequestLog.add(record(100));
+        slowRequestLog.add(record(200));
+        slowRequestLog.add(record(300));
+        slowRequestLog.add(record(250));
+
+        assertEquals(List.of(300.0, 250.0, 200.0), totals(slowRequestLog.slowest(10)));
+        assertEquals(List.of(300.0), totals(slowRequestLog.slowest(1)));
+    }
+
+    @Test
+    @DisplayName("직전 구간까지만 조회하고 그 이전 구간 기록은 버림")
+    void keepCurrentAndPreviousWindow() {
+        slowRequestLog.add(record(900));
+
+        now.set(61_000);
+        slowRequestLog.add(record(100));
+        assertEquals(List.of(900.0, 100.0), totals(slowRequestLog.slowest(10)));
+
+        now.set(121_000);
+        assertEquals(List.of(100.0), totals(slowRequestLog.slowest(10)));
+
+        now.set(300_000);
+        assertTrue(slowRequestLog.slowest(10).isEmpty());
+    }
+
+    private TimingRecord record(double totalMillis) {
+        return new TimingRecord("GET", "/point/1", 200, now.get(), totalMillis, Map.of());
+    }
+
+    private List<Double> totals(List<TimingRecord> records) {
+        return records.stream().map(TimingRecord::totalMillis).toList();
+    }
+}